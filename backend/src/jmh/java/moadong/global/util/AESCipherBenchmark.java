@@ -0,0 +1,91 @@
+package moadong.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 지원자 목록 복호화 비용 비교.
+ * legacy 는 답변마다 Cipher/키/파라미터를 새로 만들던 기존 구현, 나머지는 {@link AESCipher}.
+ * 두 구현이 모두 읽을 수 있도록 기존(고정 IV) 형식의 암호문을 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AESCipherBenchmark {
+
+    private static final String KEY = "0123456789abcdef0123456789abcdef";
+    private static final String IV = "0123456789ab";
+
+    // 지원자 수 x 질문 10개
+    @Param({"10", "1000"})
+    private int answerCount;
+
+    @Param({"200"})
+    private int answerLength;
+
+    private AESCipher cipher;
+    private List<String> cipherTexts;
+
+    @Setup
+    public void setUp() throws Exception {
+        cipher = new AESCipher(KEY, IV);
+        String answer = "가".repeat(answerLength);
+        cipherTexts = new ArrayList<>();
+        for (int i = 0; i < answerCount; i++) {
+            cipherTexts.add(legacyEncrypt(answer + i));
+        }
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) throws Exception {
+        for (String cipherText : cipherTexts) {
+            blackhole.consume(legacyDecrypt(cipherText));
+        }
+    }
+
+    @Benchmark
+    public void cached(Blackhole blackhole) throws Exception {
+        for (String cipherText : cipherTexts) {
+            blackhole.consume(cipher.decrypt(cipherText));
+        }
+    }
+
+    @Benchmark
+    public List<String> bulk() throws Exception {
+        return cipher.decryptAll(cipherTexts);
+    }
+
+    private static String legacyEncrypt(String text) throws Exception {
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        SecretKeySpec keySpec = new SecretKeySpec(KEY.getBytes(StandardCharsets.UTF_8), "AES");
+        GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(128, IV.getBytes(StandardCharsets.UTF_8));
+        cipher.init(Cipher.ENCRYPT_MODE, keySpec, gcmParameterSpec);
+
+        return Base64.getEncoder().encodeToString(cipher.doFinal(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String legacyDecrypt(String cipherText) throws Exception {
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        SecretKeySpec keySpec = new SecretKeySpec(KEY.getBytes(StandardCharsets.UTF_8), "AES");
+        GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(128, IV.getBytes(StandardCharsets.UTF_8));
+        cipher.init(Cipher.DECRYPT_MODE, keySpec, gcmParameterSpec);
+
+        byte[] decodedBytes = Base64.getDecoder().decode(cipherText);
+        return new String(cipher.doFinal(decodedBytes), StandardCharsets.UTF_8);
+    }
+}
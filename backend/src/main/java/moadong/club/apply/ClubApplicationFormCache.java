@@ -0,0 +1,79 @@
+package moadong.club.apply;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import moadong.club.entity.ClubApplicationForm;
+import moadong.club.entity.ClubApplicationFormQuestion;
+import moadong.club.entity.ClubQuestionItem;
+import moadong.club.repository.ClubApplicationFormsRepository;
+import moadong.global.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공개 지원서 조회/제출용 지원서 양식 read-through 캐시.
+ * (clubId, formId) 로 찾고, 양식 크기(글자 수)의 합으로 용량을 제한합니다.
+ * 이 서버에서 수정한 양식은 바로 무효화하고, 다른 서버에서 수정된 양식은 ttl 이 지나면 다시 읽습니다.
+ * 캐시된 양식은 여러 요청이 함께 보므로 읽기 전용으로만 사용해야 합니다.
+ */
+@Component
+public class ClubApplicationFormCache {
+
+    // 질문 하나가 글자 수 외에 차지하는 대략적인 크기
+    private static final long QUESTION_OVERHEAD = 64;
+
+    private final ClubApplicationFormsRepository clubApplicationFormsRepository;
+    private final LruCache<Key, CachedForm> forms;
+    private final Duration ttl;
+
+    private record Key(String clubId, String formId) {
+    }
+
+    private record CachedForm(ClubApplicationForm form, Instant loadedAt) {
+    }
+
+    public ClubApplicationFormCache(ClubApplicationFormsRepository clubApplicationFormsRepository,
+                                    @Value("${club.apply.form-cache.max-weight:4000000}") long maxWeight,
+                                    @Value("${club.apply.form-cache.ttl:60s}") Duration ttl) {
+        this.clubApplicationFormsRepository = clubApplicationFormsRepository;
+        this.forms = new LruCache<>(maxWeight, cached -> weigh(cached.form()));
+        this.ttl = ttl;
+    }
+
+    public Optional<ClubApplicationForm> find(String clubId, String formId) {
+        Key key = new Key(clubId, formId);
+        CachedForm cached = forms.get(key);
+        if (cached != null && cached.loadedAt().plus(ttl).isAfter(Instant.now())) {
+            return Optional.of(cached.form());
+        }
+
+        // 없는 양식은 캐시하지 않음. 생성 직후 조회가 계속 실패하지 않도록 함
+        Optional<ClubApplicationForm> loaded = clubApplicationFormsRepository.findByClubIdAndId(clubId, formId);
+        loaded.ifPresentOrElse(
+                form -> forms.put(key, new CachedForm(form, Instant.now())),
+                () -> forms.remove(key));
+        return loaded;
+    }
+
+    public void evict(String clubId, String formId) {
+        forms.remove(new Key(clubId, formId));
+    }
+
+    private static long weigh(ClubApplicationForm form) {
+        long weight = length(form.getTitle()) + length(form.getDescription());
+        for (ClubApplicationFormQuestion question : form.getQuestions()) {
+            weight += QUESTION_OVERHEAD + length(question.getTitle()) + length(question.getDescription());
+            if (question.getItems() != null) {
+                for (ClubQuestionItem item : question.getItems()) {
+                    weight += length(item.getValue());
+                }
+            }
+        }
+        return weight;
+    }
+
+    private static long length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
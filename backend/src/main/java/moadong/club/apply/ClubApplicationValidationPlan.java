@@ -0,0 +1,120 @@
+package moadong.club.apply;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import moadong.club.entity.ClubApplicationForm;
+import moadong.club.entity.ClubApplicationFormQuestion;
+import moadong.club.enums.ClubApplicationQuestionType;
+import moadong.club.payload.request.ClubApplyRequest;
+import moadong.global.exception.ErrorCode;
+import moadong.global.exception.RestApiException;
+
+/**
+ * 지원서 양식 하나를 제출 답변 검증에 맞게 미리 컴파일한 불변 검증 계획.
+ * 질문 id 는 정렬된 배열로, 필수 여부는 비트셋으로, 글자 수 제한은 질문 위치별 배열로 들고 있어
+ * 제출마다 Map/Set 을 만들지 않고 답변 목록을 한 번만 훑어 검증합니다.
+ */
+public final class ClubApplicationValidationPlan {
+
+    private static final int SHORT_TEXT_MAX_LENGTH = 100;
+    private static final int LONG_TEXT_MAX_LENGTH = 1000;
+    private static final int NO_LIMIT = Integer.MAX_VALUE;
+
+    private final long[] questionIds;
+    private final int[] maxLengths;
+    private final ErrorCode[] lengthErrors;
+    private final BitSet required;
+    private final int requiredCount;
+
+    private ClubApplicationValidationPlan(long[] questionIds, int[] maxLengths, ErrorCode[] lengthErrors, BitSet required) {
+        this.questionIds = questionIds;
+        this.maxLengths = maxLengths;
+        this.lengthErrors = lengthErrors;
+        this.required = required;
+        this.requiredCount = required.cardinality();
+    }
+
+    public static ClubApplicationValidationPlan compile(ClubApplicationForm form) {
+        List<ClubApplicationFormQuestion> questions = form.getQuestions().stream()
+                .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                .toList();
+
+        int size = questions.size();
+        long[] questionIds = new long[size];
+        int[] maxLengths = new int[size];
+        ErrorCode[] lengthErrors = new ErrorCode[size];
+        BitSet required = new BitSet(size);
+
+        for (int i = 0; i < size; i++) {
+            ClubApplicationFormQuestion question = questions.get(i);
+            questionIds[i] = question.getId();
+            maxLengths[i] = maxLength(question.getType());
+            lengthErrors[i] = lengthError(question.getType());
+            if (question.getOptions() != null && Boolean.TRUE.equals(question.getOptions().getRequired())) {
+                required.set(i);
+            }
+        }
+        return new ClubApplicationValidationPlan(questionIds, maxLengths, lengthErrors, required);
+    }
+
+    /**
+     * 답변을 검증합니다. 기존과 같이 필수 질문 누락을 가장 먼저 알리고, 그 외에는 처음 발견한 오류를 알립니다.
+     */
+    public void validate(List<ClubApplyRequest.Answer> answers) {
+        // 질문이 64개 이하면 비트 마스크로 처리해 추가 할당이 없음
+        long answeredMask = 0L;
+        BitSet answered = questionIds.length > Long.SIZE ? new BitSet(questionIds.length) : null;
+        int answeredRequired = 0;
+        ErrorCode firstError = null;
+
+        for (ClubApplyRequest.Answer answer : answers) {
+            int index = Arrays.binarySearch(questionIds, answer.id());
+            if (index < 0) {
+                if (firstError == null) {
+                    firstError = ErrorCode.QUESTION_NOT_FOUND;
+                }
+                continue;
+            }
+            if (firstError == null && answer.value().length() > maxLengths[index]) {
+                firstError = lengthErrors[index];
+            }
+            if (!required.get(index)) {
+                continue;
+            }
+            if (answered == null) {
+                long bit = 1L << index;
+                if ((answeredMask & bit) == 0) {
+                    answeredMask |= bit;
+                    answeredRequired++;
+                }
+            } else if (!answered.get(index)) {
+                answered.set(index);
+                answeredRequired++;
+            }
+        }
+
+        if (answeredRequired < requiredCount) {
+            throw new RestApiException(ErrorCode.REQUIRED_QUESTION_MISSING);
+        }
+        if (firstError != null) {
+            throw new RestApiException(firstError);
+        }
+    }
+
+    private static int maxLength(ClubApplicationQuestionType type) {
+        return switch (type) {
+            case SHORT_TEXT -> SHORT_TEXT_MAX_LENGTH;
+            case LONG_TEXT -> LONG_TEXT_MAX_LENGTH;
+            default -> NO_LIMIT;
+        };
+    }
+
+    private static ErrorCode lengthError(ClubApplicationQuestionType type) {
+        return switch (type) {
+            case SHORT_TEXT -> ErrorCode.SHORT_EXCEED_LENGTH;
+            case LONG_TEXT -> ErrorCode.LONG_EXCEED_LENGTH;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package moadong.club.apply;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import moadong.club.entity.ClubApplicationForm;
+import moadong.global.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지원서 양식별 검증 계획 캐시.
+ * 양식 id 로 찾고, 캐시된 계획이 컴파일될 때의 수정 시각/버전이 현재 양식과 다르면 다시 컴파일합니다.
+ */
+@Component
+public class ClubApplicationValidationPlans {
+
+    private final LruCache<String, CompiledPlan> plans;
+
+    private record CompiledPlan(LocalDateTime editedAt, Long version, ClubApplicationValidationPlan plan) {
+
+        boolean compiledFrom(ClubApplicationForm form) {
+            return Objects.equals(editedAt, form.getEditedAt()) && Objects.equals(version, form.getVersion());
+        }
+    }
+
+    public ClubApplicationValidationPlans(@Value("${club.apply.validation-plan.max-entries:1024}") int maxEntries) {
+        this.plans = new LruCache<>(maxEntries);
+    }
+
+    public ClubApplicationValidationPlan planFor(ClubApplicationForm form) {
+        CompiledPlan cached = plans.get(form.getId());
+        if (cached != null && cached.compiledFrom(form)) {
+            return cached.plan();
+        }
+        ClubApplicationValidationPlan plan = ClubApplicationValidationPlan.compile(form);
+        plans.put(form.getId(), new CompiledPlan(form.getEditedAt(), form.getVersion(), plan));
+        return plan;
+    }
+}
@@ -0,0 +1,33 @@
+package moadong.club.apply;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import moadong.club.entity.ClubApplicant;
+import moadong.club.entity.ClubQuestionAnswer;
+
+/**
+ * 저널에 기록되는 지원서 제출 한 건. 답변은 암호화된 값으로만 기록합니다.
+ * receiptId 는 저장될 지원자 id 로도 쓰여, 재처리 시 같은 지원서가 두 번 저장되지 않습니다.
+ */
+public record ClubApplySubmission(
+        String receiptId,
+        String formId,
+        List<Answer> answers,
+        LocalDateTime createdAt
+) {
+    public record Answer(Long id, String value) {
+    }
+
+    public ClubApplicant toApplicant() {
+        return ClubApplicant.builder()
+                .id(receiptId)
+                .formId(formId)
+                .answers(answers.stream()
+                        .map(answer -> ClubQuestionAnswer.builder().id(answer.id()).value(answer.value()).build())
+                        .collect(Collectors.toCollection(ArrayList::new)))
+                .createdAt(createdAt)
+                .build();
+    }
+}
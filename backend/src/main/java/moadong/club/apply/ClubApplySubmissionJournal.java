@@ -0,0 +1,358 @@
+package moadong.club.apply;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지원서 제출을 로컬 디스크에 먼저 기록하는 선행 기록(write-ahead) 저널.
+ * 쓰기 스레드 하나가 그동안 쌓인 제출을 한꺼번에 쓰고 fsync 한 번으로 확정(group commit)한 뒤 요청 스레드를 깨웁니다.
+ * 저널은 일정 크기마다 세그먼트 파일로 나뉘며, 세그먼트의 모든 제출이 DB 에 저장되면 파일을 지웁니다.
+ * 재기동 시 남아 있는 세그먼트를 다시 읽어 저장되지 않은 제출을 되살립니다.
+ *
+ * <p>레코드 형식: [길이 int][CRC32 int][JSON]. 마지막 레코드가 중간에 끊겼으면 그 앞까지만 읽습니다.
+ * 기록에 실패한 그룹은 잘라내므로, 파일 중간이 깨졌다면 디스크 손상으로 보고 오류로 남깁니다.
+ */
+@Slf4j
+public class ClubApplySubmissionJournal {
+
+    private static final String SEGMENT_PREFIX = "submissions-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CORRUPT_SUFFIX = ".corrupt";
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+    private static final int MAX_GROUP = 512;
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<PendingAppend> appends = new LinkedBlockingQueue<>();
+
+    private Consumer<List<Entry>> durableListener;
+    private Thread writer;
+    private volatile boolean running;
+
+    // 쓰기 스레드만 접근
+    private Segment active;
+    private FileChannel activeChannel;
+    private long nextSequence;
+
+    /**
+     * 저널에 확정된 제출 한 건과, 그 제출이 기록된 세그먼트.
+     */
+    public record Entry(ClubApplySubmission submission, Segment segment) {
+    }
+
+    private record PendingAppend(ClubApplySubmission submission, CompletableFuture<Entry> durable) {
+    }
+
+    public static final class Segment {
+        private final Path path;
+        private final AtomicInteger unpersisted = new AtomicInteger();
+        private volatile boolean sealed;
+        private boolean deleted;
+
+        private Segment(Path path) {
+            this.path = path;
+        }
+
+        private synchronized void deleteIfDone() {
+            if (!sealed || unpersisted.get() > 0 || deleted) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(path);
+                deleted = true;
+            } catch (IOException e) {
+                log.warn("지원서 저널 세그먼트 삭제 실패: {}", path, e);
+            }
+        }
+    }
+
+    public ClubApplySubmissionJournal(Path directory, long segmentBytes, ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 남아 있는 세그먼트를 읽어 listener 에 넘기고 쓰기 스레드를 시작합니다.
+     * 이후 fsync 로 확정된 제출도 같은 listener 로 전달됩니다.
+     */
+    public synchronized void start(Consumer<List<Entry>> listener) throws IOException {
+        Files.createDirectories(directory);
+        this.durableListener = listener;
+
+        List<Path> segments;
+        try (Stream<Path> files = Files.list(directory)) {
+            segments = files.filter(ClubApplySubmissionJournal::isSegment)
+                    .sorted((a, b) -> Long.compare(sequenceOf(a), sequenceOf(b)))
+                    .toList();
+        }
+        for (Path path : segments) {
+            nextSequence = Math.max(nextSequence, sequenceOf(path) + 1);
+            Segment segment = new Segment(path);
+            List<Entry> recovered = recover(segment);
+            segment.sealed = true;
+            if (recovered.isEmpty()) {
+                segment.deleteIfDone();
+                continue;
+            }
+            log.info("지원서 저널 복구: {} 에서 {}건", path.getFileName(), recovered.size());
+            listener.accept(recovered);
+        }
+
+        openSegment();
+        running = true;
+        writer = new Thread(this::writeLoop, "apply-journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 제출을 저널에 추가합니다. 반환된 future 는 fsync 로 디스크에 확정된 뒤 완료됩니다.
+     */
+    public CompletableFuture<Entry> append(ClubApplySubmission submission) {
+        if (!running) {
+            return CompletableFuture.failedFuture(new IllegalStateException("지원서 저널이 실행 중이 아닙니다."));
+        }
+        CompletableFuture<Entry> durable = new CompletableFuture<>();
+        appends.add(new PendingAppend(submission, durable));
+        return durable;
+    }
+
+    /**
+     * DB 에 저장된 제출을 알립니다. 세그먼트의 모든 제출이 저장되면 세그먼트 파일을 지웁니다.
+     */
+    public void acknowledge(Collection<Entry> entries) {
+        for (Entry entry : entries) {
+            entry.segment().unpersisted.decrementAndGet();
+            entry.segment().deleteIfDone();
+        }
+    }
+
+    /**
+     * 새 제출을 받지 않고, 이미 받은 제출을 모두 기록한 뒤 쓰기 스레드를 멈춥니다.
+     */
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingAppend> group = new ArrayList<>(MAX_GROUP);
+        while (running || !appends.isEmpty()) {
+            try {
+                PendingAppend first = appends.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                // fsync 하는 동안 쌓인 제출을 한 번에 기록
+                appends.drainTo(group, MAX_GROUP - 1);
+                commit(group);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                group.clear();
+            }
+        }
+        closeActive();
+    }
+
+    private void commit(List<PendingAppend> group) {
+        List<Entry> entries = new ArrayList<>(group.size());
+        // 실패하면 이 그룹이 쓴 부분을 잘라낼 위치
+        long groupStart = -1;
+        try {
+            groupStart = activeChannel.size();
+            for (PendingAppend pending : group) {
+                ByteBuffer record = encode(pending.submission());
+                if (activeChannel.size() > 0 && activeChannel.size() + record.remaining() > segmentBytes) {
+                    rollSegment();
+                    groupStart = 0;
+                }
+                while (record.hasRemaining()) {
+                    activeChannel.write(record);
+                }
+                active.unpersisted.incrementAndGet();
+                entries.add(new Entry(pending.submission(), active));
+            }
+            activeChannel.force(false);
+        } catch (IOException | RuntimeException e) {
+            log.error("지원서 저널 기록 실패", e);
+            // 기록하지 못한 제출은 저장 대상에서 빠지므로 세그먼트 카운트를 되돌림
+            entries.forEach(entry -> entry.segment().unpersisted.decrementAndGet());
+            discardPartialGroup(groupStart);
+            group.forEach(pending -> pending.durable().completeExceptionally(e));
+            return;
+        }
+
+        durableListener.accept(entries);
+        for (int i = 0; i < group.size(); i++) {
+            group.get(i).durable().complete(entries.get(i));
+        }
+    }
+
+    /**
+     * 실패한 그룹이 남긴 레코드를 잘라내, 이후 레코드가 깨진 레코드 뒤에 붙지 않게 합니다.
+     * 잘라낼 수 없으면 현재 세그먼트를 닫고 새 세그먼트로 넘어갑니다. 이때 깨진 레코드는 그 세그먼트의 끝이 됩니다.
+     */
+    private void discardPartialGroup(long groupStart) {
+        try {
+            if (groupStart < 0) {
+                throw new IOException("그룹 시작 위치를 알 수 없습니다.");
+            }
+            activeChannel.truncate(groupStart);
+            activeChannel.position(groupStart);
+            activeChannel.force(false);
+        } catch (IOException | RuntimeException truncateFailure) {
+            log.error("지원서 저널 되돌리기 실패, 새 세그먼트로 넘어갑니다: {}", active.path.getFileName(), truncateFailure);
+            try {
+                activeChannel.close();
+            } catch (IOException closeFailure) {
+                log.warn("지원서 저널 세그먼트 닫기 실패: {}", active.path.getFileName(), closeFailure);
+            }
+            active.sealed = true;
+            active.deleteIfDone();
+            try {
+                openSegment();
+            } catch (IOException openFailure) {
+                log.error("새 지원서 저널 세그먼트를 열 수 없습니다.", openFailure);
+            }
+        }
+    }
+
+    private ByteBuffer encode(ClubApplySubmission submission) throws IOException {
+        byte[] payload = objectMapper.writeValueAsBytes(submission);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return ByteBuffer.allocate(HEADER_BYTES + payload.length)
+                .putInt(payload.length)
+                .putInt((int) crc.getValue())
+                .put(payload)
+                .flip();
+    }
+
+    private List<Entry> recover(Segment segment) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        long fileSize = Files.size(segment.path);
+        long offset = 0;
+        try (InputStream file = Files.newInputStream(segment.path);
+             DataInputStream input = new DataInputStream(new BufferedInputStream(file))) {
+            while (offset < fileSize) {
+                if (fileSize - offset < HEADER_BYTES) {
+                    reportTornTail(segment, entries.size(), "레코드 헤더가 끊김");
+                    break;
+                }
+                int length = input.readInt();
+                int expectedCrc = input.readInt();
+                long end = offset + HEADER_BYTES + length;
+                if (length <= 0) {
+                    reportCorruption(segment, offset, fileSize, entries.size(), "올바르지 않은 레코드 길이: " + length);
+                    break;
+                }
+                if (end > fileSize) {
+                    reportTornTail(segment, entries.size(), "레코드 본문이 끊김");
+                    break;
+                }
+                byte[] payload = new byte[length];
+                input.readFully(payload);
+
+                CRC32 crc = new CRC32();
+                crc.update(payload);
+                if ((int) crc.getValue() != expectedCrc) {
+                    if (end == fileSize) {
+                        reportTornTail(segment, entries.size(), "마지막 레코드 CRC 불일치");
+                    } else {
+                        reportCorruption(segment, offset, fileSize, entries.size(), "CRC 불일치");
+                    }
+                    break;
+                }
+                ClubApplySubmission submission = objectMapper.readValue(payload, ClubApplySubmission.class);
+                segment.unpersisted.incrementAndGet();
+                entries.add(new Entry(submission, segment));
+                offset = end;
+            }
+        }
+        return entries;
+    }
+
+    // 기록 도중 종료되어 끊긴 마지막 레코드는 fsync 전이라 응답하지 않은 제출이므로 버림
+    private static void reportTornTail(Segment segment, int recovered, String reason) {
+        log.warn("지원서 저널 {} 의 마지막 레코드가 끊겨 {}건까지만 복구합니다: {}",
+                segment.path.getFileName(), recovered, reason);
+    }
+
+    // 파일 중간이 깨지면 그 뒤의 레코드를 읽을 수 없으므로, 확인할 수 있도록 사본을 남김
+    private static void reportCorruption(Segment segment, long offset, long fileSize, int recovered, String reason) {
+        Path copy = segment.path.resolveSibling(segment.path.getFileName() + CORRUPT_SUFFIX);
+        log.error("지원서 저널 {} 의 {} 바이트 위치가 손상되어 {}건만 복구하고 뒤의 {} 바이트를 읽지 못했습니다: {}. 사본: {}",
+                segment.path.getFileName(), offset, recovered, fileSize - offset, reason, copy.getFileName());
+        try {
+            Files.copy(segment.path, copy, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.error("손상된 지원서 저널 사본을 남기지 못했습니다: {}", segment.path.getFileName(), e);
+        }
+    }
+
+    private void rollSegment() throws IOException {
+        activeChannel.force(false);
+        activeChannel.close();
+        Segment previous = active;
+        previous.sealed = true;
+        previous.deleteIfDone();
+        openSegment();
+    }
+
+    private void openSegment() throws IOException {
+        Path path = directory.resolve(SEGMENT_PREFIX + String.format("%020d", nextSequence++) + SEGMENT_SUFFIX);
+        active = new Segment(path);
+        activeChannel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    }
+
+    private void closeActive() {
+        try {
+            activeChannel.force(false);
+            activeChannel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            active.sealed = true;
+            active.deleteIfDone();
+        }
+    }
+
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,194 @@
+package moadong.club.apply;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import moadong.club.entity.ClubApplicant;
+import moadong.club.summary.ApplicantSummaryOutbox;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저널에 확정된 지원서 제출을 모아서 DB 에 저장합니다.
+ * batch-size 만큼 모이거나 linger 가 지나면 요약 outbox 항목과 지원자를 각각 한 번의 bulk insert 로 저장한 뒤 저널에 알립니다.
+ * 제출 id 가 곧 지원자 id 이므로 재기동 후 저널을 다시 처리해도 이미 저장된 지원서는 중복 키로 걸러집니다.
+ */
+@Slf4j
+@Component
+public class ClubApplySubmissionPersister {
+
+    private static final int DUPLICATE_KEY = 11000;
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 30_000;
+
+    private final MongoTemplate mongoTemplate;
+    private final ApplicantSummaryOutbox applicantSummaryOutbox;
+    private final ClubApplySubmissionJournal journal;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration linger;
+    private final int maxBacklog;
+    private final Duration appendTimeout;
+    private final BlockingQueue<ClubApplySubmissionJournal.Entry> backlog = new LinkedBlockingQueue<>();
+
+    private Thread worker;
+    private volatile boolean running;
+
+    public ClubApplySubmissionPersister(MongoTemplate mongoTemplate,
+                                        ApplicantSummaryOutbox applicantSummaryOutbox,
+                                        ObjectMapper objectMapper,
+                                        @Value("${club.apply.async.enabled:false}") boolean enabled,
+                                        @Value("${club.apply.async.journal-dir:data/apply-journal}") String journalDir,
+                                        @Value("${club.apply.async.segment-bytes:16777216}") long segmentBytes,
+                                        @Value("${club.apply.async.batch-size:200}") int batchSize,
+                                        @Value("${club.apply.async.linger:50ms}") Duration linger,
+                                        @Value("${club.apply.async.max-backlog:20000}") int maxBacklog,
+                                        @Value("${club.apply.async.append-timeout:5s}") Duration appendTimeout) {
+        this.mongoTemplate = mongoTemplate;
+        this.applicantSummaryOutbox = applicantSummaryOutbox;
+        this.journal = new ClubApplySubmissionJournal(Path.of(journalDir), segmentBytes, objectMapper);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.linger = linger;
+        this.maxBacklog = maxBacklog;
+        this.appendTimeout = appendTimeout;
+    }
+
+    /**
+     * 비동기 접수가 꺼져 있어도 저널은 열어, 설정을 끄기 전에 남은 제출을 저장합니다.
+     * 새 제출을 저널에 받을지는 enabled 로만 정합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            // 재기동 전에 저장하지 못한 제출이 먼저 backlog 에 들어감
+            journal.start(backlog::addAll);
+        } catch (IOException e) {
+            throw new UncheckedIOException("지원서 저널을 열 수 없습니다.", e);
+        }
+        running = true;
+        worker = new Thread(this::persistLoop, "apply-persister");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 저장 대기 중인 제출이 한도를 넘으면 false. 이때는 요청 스레드에서 바로 저장합니다.
+     */
+    public boolean canAccept() {
+        return enabled && running && backlog.size() < maxBacklog;
+    }
+
+    /**
+     * 제출을 저널에 기록하고 디스크에 확정될 때까지 기다립니다. 반환되면 재기동해도 유실되지 않습니다.
+     */
+    public void submit(ClubApplySubmission submission) throws ExecutionException, TimeoutException, InterruptedException {
+        if (!enabled) {
+            throw new IllegalStateException("비동기 지원서 접수가 꺼져 있습니다.");
+        }
+        journal.append(submission).get(appendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        // 저널에 남은 제출을 모두 확정한 뒤, 저장 스레드가 backlog 를 비우고 끝나도록 함
+        journal.stop();
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private void persistLoop() {
+        List<ClubApplySubmissionJournal.Entry> batch = new ArrayList<>(batchSize);
+        while (running || !backlog.isEmpty()) {
+            try {
+                ClubApplySubmissionJournal.Entry first = backlog.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + linger.toNanos();
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    ClubApplySubmissionJournal.Entry next = backlog.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    backlog.drainTo(batch, batchSize - batch.size());
+                }
+                persistWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void persistWithRetry(List<ClubApplySubmissionJournal.Entry> batch) throws InterruptedException {
+        long backoff = 100;
+        while (true) {
+            try {
+                persist(batch);
+                return;
+            } catch (RuntimeException e) {
+                // 저널에 남아 있으므로 DB 가 돌아올 때까지 재시도. 종료되면 다음 기동 때 다시 처리됨
+                if (!running) {
+                    log.warn("지원서 저장 실패, 종료 중이므로 {}건은 다음 기동 때 저널에서 다시 처리합니다.", batch.size(), e);
+                    return;
+                }
+                log.error("지원서 {}건 저장 실패, {}ms 후 재시도", batch.size(), backoff, e);
+                Thread.sleep(backoff);
+                backoff = Math.min(backoff * 2, MAX_RETRY_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private void persist(List<ClubApplySubmissionJournal.Entry> batch) {
+        List<ClubApplicant> applicants = new ArrayList<>(batch.size());
+        batch.forEach(entry -> applicants.add(entry.submission().toApplicant()));
+
+        // outbox 를 먼저 기록해, 지원자만 저장되고 요약 요청이 빠지는 일이 없도록 함
+        applicantSummaryOutbox.addAll(applicants);
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ClubApplicant.class)
+                    .insert(applicants)
+                    .execute();
+        } catch (BulkOperationException e) {
+            // 재처리로 이미 저장된 지원자는 중복 키로 걸러짐
+            for (BulkWriteError error : e.getErrors()) {
+                if (error.getCode() != DUPLICATE_KEY) {
+                    throw e;
+                }
+            }
+        }
+        journal.acknowledge(batch);
+    }
+}
@@ -3,23 +3,30 @@ package moadong.club.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.AllArgsConstructor;
+import moadong.club.entity.ClubApplicationForm;
 import moadong.club.payload.request.ClubApplicantDeleteRequest;
 import moadong.club.payload.request.ClubApplicantEditRequest;
 import moadong.club.payload.request.ClubApplicationFormCreateRequest;
 import moadong.club.payload.request.ClubApplicationFormEditRequest;
+import moadong.club.service.ClubApplicantExportService;
 import moadong.club.service.ClubApplyAdminService;
 import moadong.global.payload.Response;
 import moadong.user.annotation.CurrentUser;
 import moadong.user.payload.CustomUserDetails;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 
@@ -30,6 +37,7 @@ import java.util.List;
 public class ClubApplyAdminController {
 
     private final ClubApplyAdminService clubApplyAdminService;
+    private final ClubApplicantExportService clubApplicantExportService;
 
     @PostMapping("/application")
     @Operation(summary = "클럽 지원서 양식 생성", description = "클럽 지원서 양식을 생성합니다")
@@ -78,6 +86,60 @@ public class ClubApplyAdminController {
         return Response.ok(clubApplyAdminService.getClubApplyInfo(applicationFormId, user));
     }
 
+    @GetMapping("/apply/info/{applicationFormId}/applicants")
+    @Operation(summary = "클럽 지원자 현황 페이지 조회",
+            description = "클럽 지원자 현황을 페이지 단위로 불러옵니다.<br>"
+                    + "지원자 수와 상태별 인원은 전체 기준이며, 답변은 현재 페이지 지원자의 것만 포함합니다.<br>"
+                    + "page는 0부터 시작하고, size는 기본 20, 최대 100입니다."
+    )
+    @PreAuthorize("isAuthenticated()")
+    @SecurityRequirement(name = "BearerAuth")
+    public ResponseEntity<?> getApplicantPage(@PathVariable String applicationFormId,
+                                              @RequestParam(value = "page", required = false) Integer page,
+                                              @RequestParam(value = "size", required = false) Integer size,
+                                              @CurrentUser CustomUserDetails user) {
+        return Response.ok(clubApplyAdminService.getClubApplicantPage(applicationFormId, user, page, size));
+    }
+
+    @GetMapping("/apply/info/{applicationFormId}/counts")
+    @Operation(summary = "클럽 지원자 상태별 인원", description = "지원자 답변을 읽지 않고 전체/상태별 지원자 수만 불러옵니다")
+    @PreAuthorize("isAuthenticated()")
+    @SecurityRequirement(name = "BearerAuth")
+    public ResponseEntity<?> getApplicantCounts(@PathVariable String applicationFormId,
+                                                @CurrentUser CustomUserDetails user) {
+        return Response.ok(clubApplyAdminService.getClubApplicantCounts(applicationFormId, user));
+    }
+
+    @GetMapping("/applicant/{applicationFormId}/{applicantId}")
+    @Operation(summary = "지원자 지원서 상세 조회", description = "지원자 한 명의 지원서 답변 전체를 불러옵니다")
+    @PreAuthorize("isAuthenticated()")
+    @SecurityRequirement(name = "BearerAuth")
+    public ResponseEntity<?> getApplicant(@PathVariable String applicationFormId,
+                                          @PathVariable String applicantId,
+                                          @CurrentUser CustomUserDetails user) {
+        return Response.ok(clubApplyAdminService.getClubApplicant(applicationFormId, applicantId, user));
+    }
+
+    @GetMapping("/applicant/{applicationFormId}/export")
+    @Operation(summary = "지원자 목록 내보내기",
+            description = "지원서 양식의 전체 지원자를 CSV 파일로 내려받습니다.<br>"
+                    + "열은 지원자 ID, 상태, 메모, 제출일시와 지원서 질문 순서대로의 답변입니다."
+    )
+    @PreAuthorize("isAuthenticated()")
+    @SecurityRequirement(name = "BearerAuth")
+    public void exportApplicants(@PathVariable String applicationFormId,
+                                 @CurrentUser CustomUserDetails user,
+                                 HttpServletResponse response) throws IOException {
+        ClubApplicationForm applicationForm = clubApplicantExportService.getExportForm(applicationFormId, user);
+
+        response.setContentType("text/csv; charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(applicationForm.getTitle() + "_지원자.csv", StandardCharsets.UTF_8)
+                .build()
+                .toString());
+        clubApplicantExportService.writeApplicantsCsv(applicationForm, response.getOutputStream());
+    }
+
     @PutMapping("/applicant/{applicationFormId}")
     @Operation(summary = "지원자의 지원서 정보 변경",
             description = "여러 지원자의 지원서 정보를 일괄 수정합니다.<br>"
@@ -105,6 +167,19 @@ public class ClubApplyAdminController {
         return Response.ok("success delete applicant");
     }
 
+    @DeleteMapping("/applicant/{applicationFormId}/all")
+    @Operation(summary = "지원자 전체 삭제",
+            description = "마감된 지원서 양식의 모든 지원자를 삭제합니다.<br>"
+                    + "삭제는 백그라운드에서 진행되며, 요청은 바로 반환됩니다."
+    )
+    @PreAuthorize("isAuthenticated()")
+    @SecurityRequirement(name = "BearerAuth")
+    public ResponseEntity<?> purgeApplicants(@PathVariable String applicationFormId,
+                                             @CurrentUser CustomUserDetails user) {
+        clubApplyAdminService.purgeApplicants(applicationFormId, user);
+        return Response.ok("success request purge applicants");
+    }
+
     @GetMapping(value = "/applicant/{applicationFormId}/events",produces = "text/event-stream")
     @Operation(summary = "지원자 상태 변경 실시간 이벤트", 
                description = "지원자의 상태 변경을 실시간으로 받아볼 수 있는 SSE 엔드포인트입니다.")
@@ -30,6 +30,10 @@ public class ClubApplyPublicController {
     public ResponseEntity<?> applyToClub(@PathVariable String clubId,
                                          @PathVariable String applicationFormId,
                                          @RequestBody @Validated ClubApplyRequest request) {
+        // 비동기 접수 모드에서는 저널에 기록되면 접수 번호와 함께 202 를 돌려줌
+        if (clubApplyPublicService.isAsyncApplyEnabled()) {
+            return Response.accepted(clubApplyPublicService.acceptApplication(clubId, applicationFormId, request));
+        }
         clubApplyPublicService.applyToClub(clubId, applicationFormId, request);
         return Response.ok("success apply");
     }
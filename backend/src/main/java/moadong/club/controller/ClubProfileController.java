@@ -5,9 +5,9 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import moadong.club.payload.dto.ClubDetailedPage;
 import moadong.club.payload.request.ClubInfoRequest;
 import moadong.club.payload.request.ClubRecruitmentInfoUpdateRequest;
-import moadong.club.payload.response.ClubDetailedResponse;
 import moadong.club.service.ClubProfileService;
 import moadong.global.payload.Response;
 import moadong.user.annotation.CurrentUser;
@@ -16,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/club")
@@ -26,10 +27,14 @@ public class ClubProfileController {
     private final ClubProfileService clubProfileService;
 
     @GetMapping("/{clubId}")
-    @Operation(summary = "클럽 상세 정보 조회", description = "클럽 상세 정보를 조회합니다.")
-    public ResponseEntity<?> getClubDetail(@PathVariable String clubId) {
-        ClubDetailedResponse clubDetailedPageResponse = clubProfileService.getClubDetail(clubId);
-        return Response.ok(clubDetailedPageResponse);
+    @Operation(summary = "클럽 상세 정보 조회", description = "클럽 상세 정보를 조회합니다.<br>"
+        + "응답의 ETag를 If-None-Match에 담아 요청하면 변경이 없을 때 304를 반환합니다.")
+    public ResponseEntity<?> getClubDetail(@PathVariable String clubId, WebRequest request) {
+        ClubDetailedPage clubDetailedPage = clubProfileService.getClubDetail(clubId);
+        if (clubDetailedPage.eTag() != null && request.checkNotModified(clubDetailedPage.eTag())) {
+            return null;
+        }
+        return Response.okWithETag(clubDetailedPage.response(), clubDetailedPage.eTag());
     }
 
     @PutMapping("/info")
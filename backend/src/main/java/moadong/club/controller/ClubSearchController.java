@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/club")
@@ -29,26 +30,54 @@ public class ClubSearchController {
             + "keyword에 빈칸 입력 시 전체 검색<br>"
             + "recruitmentStatus, category, division에 all 입력 시 전체 검색<br>"
             + "<br>"
-            + "keyword는 대소문자 구분 없이 자유롭게 검색"
+            + "keyword는 대소문자 구분 없이 자유롭게 검색<br>"
+            + "응답의 ETag를 If-None-Match에 담아 요청하면 결과가 같을 때 304를 반환합니다.<br>"
             + "recruitmentStatus은 모집상태로 ALWAYS(상시모집), OPEN(모집중), CLOSED(모집마감), UPCOMING(모집예정)<br>"
             + "division은 분과로 중동<br>"
-            + "category는 종류로 봉사, 종교, 취미교양, 학술, 운동, 공연, 기타<br>")
+            + "category는 종류로 봉사, 종교, 취미교양, 학술, 운동, 공연, 기타<br>"
+            + "<br>"
+            + "size를 입력하면 size개씩 페이지로 나누어 반환합니다.(최대 100)<br>"
+            + "다음 페이지는 응답의 nextCursor를 cursor에 넣어 요청하며, nextCursor가 null이면 마지막 페이지입니다.<br>"
+            + "<br>"
+            + "카테고리 순서는 일정 주기마다 바뀝니다. session에 세션 토큰을 넣으면 해당 세션 동안 같은 순서를 유지합니다.<br>")
     public ResponseEntity<?> searchClubsByKeyword(
         @RequestParam(value = "keyword", required = false, defaultValue = "") String keyword,
         @RequestParam(value = "recruitmentStatus", required = false, defaultValue = "all") String recruitmentStatus,
         @RequestParam(value = "division", required = false, defaultValue = "all") String division,
-        @RequestParam(value = "category", required = false, defaultValue = "all") String category
+        @RequestParam(value = "category", required = false, defaultValue = "all") String category,
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "size", required = false) Integer size,
+        @RequestParam(value = "session", required = false) String session,
+        WebRequest request
     ) {
+        String eTag = clubSearchService.getSearchETag(keyword, recruitmentStatus, division, category, session,
+            cursor, size);
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return null;
+        }
         try {
-            ClubSearchResponse clubSearchResponse = clubSearchService.searchClubsByKeyword(
-                keyword,
-                recruitmentStatus,
-                division,
-                category
-            );
-            return Response.ok(clubSearchResponse);
+            ClubSearchResponse clubSearchResponse = (cursor == null && size == null)
+                ? clubSearchService.searchClubsByKeyword(keyword, recruitmentStatus, division, category, session)
+                : clubSearchService.searchClubsByKeyword(keyword, recruitmentStatus, division, category, session,
+                    cursor, size);
+            return Response.okWithETag(clubSearchResponse, eTag);
+        } catch (RestApiException e) {
+            throw e;
         } catch (Exception e) {
             throw new RestApiException(ErrorCode.CLUB_SEARCH_FAILED);
         }
     }
+
+    @GetMapping("/search/suggest")
+    @Operation(summary = "검색어 자동완성",
+        description = "입력 중인 검색어로 시작하는 동아리 이름/태그를 최대 size개 반환합니다.<br>"
+            + "<br>"
+            + "'봉ㅅ'처럼 입력 중인 음절이나 'ㅂㅅ'처럼 초성만 입력해도 검색됩니다.<br>"
+            + "size는 최대 20까지 가능합니다.<br>")
+    public ResponseEntity<?> suggestClubs(
+        @RequestParam(value = "keyword", required = false, defaultValue = "") String keyword,
+        @RequestParam(value = "size", required = false, defaultValue = "10") int size
+    ) {
+        return Response.ok(clubSearchService.suggestClubs(keyword, size));
+    }
 }
@@ -0,0 +1,6 @@
+package moadong.club.enums;
+
+public enum ClubSuggestType {
+    NAME, // 동아리 이름
+    TAG   // 동아리 태그
+}
@@ -0,0 +1,23 @@
+package moadong.club.payload.dto;
+
+import lombok.Builder;
+import moadong.club.enums.ApplicantStatus;
+
+import java.util.Map;
+
+@Builder
+public record ClubApplicantStatusCounts(
+        int total,
+        int reviewRequired,
+        int scheduledInterview,
+        int accepted
+) {
+    public static ClubApplicantStatusCounts of(Map<ApplicantStatus, Integer> counts) {
+        return ClubApplicantStatusCounts.builder()
+                .total(counts.values().stream().mapToInt(Integer::intValue).sum())
+                .reviewRequired(counts.getOrDefault(ApplicantStatus.SUBMITTED, 0))
+                .scheduledInterview(counts.getOrDefault(ApplicantStatus.INTERVIEW_SCHEDULED, 0))
+                .accepted(counts.getOrDefault(ApplicantStatus.ACCEPTED, 0))
+                .build();
+    }
+}
@@ -22,26 +22,47 @@ public record ClubApplicantsResult(
         LocalDateTime createdAt
 ) {
     public static ClubApplicantsResult of(ClubApplicant application, AESCipher cipher) {
-        List<ClubQuestionAnswer> decryptedAnswers = new ArrayList<>();
-        try {
+        return ofAll(List.of(application), cipher).get(0);
+    }
+
+    /**
+     * 여러 지원자의 답변을 한 번의 일괄 복호화로 풀어 결과를 만듭니다.
+     */
+    public static List<ClubApplicantsResult> ofAll(List<ClubApplicant> applications, AESCipher cipher) {
+        List<String> cipherTexts = new ArrayList<>();
+        for (ClubApplicant application : applications) {
             for (ClubQuestionAnswer answer : application.getAnswers()) {
-                String decryptedValue = cipher.decrypt(answer.getValue());
-                decryptedAnswers.add(ClubQuestionAnswer.builder()
-                        .id(answer.getId())
-                        .value(decryptedValue)
-                        .build());
+                cipherTexts.add(answer.getValue());
             }
+        }
+
+        List<String> decryptedValues;
+        try {
+            decryptedValues = cipher.decryptAll(cipherTexts);
         } catch (Exception e) {
             log.error("AES_CIPHER_ERROR", e);
             throw new RestApiException(ErrorCode.AES_CIPHER_ERROR);
         }
 
-        return ClubApplicantsResult.builder()
-                .id(application.getId())
-                .status(application.getStatus())
-                .answers(decryptedAnswers)
-                .memo(application.getMemo())
-                .createdAt(application.getCreatedAt())
-                .build();
+        List<ClubApplicantsResult> results = new ArrayList<>(applications.size());
+        int index = 0;
+        for (ClubApplicant application : applications) {
+            List<ClubQuestionAnswer> decryptedAnswers = new ArrayList<>(application.getAnswers().size());
+            for (ClubQuestionAnswer answer : application.getAnswers()) {
+                decryptedAnswers.add(ClubQuestionAnswer.builder()
+                        .id(answer.getId())
+                        .value(decryptedValues.get(index++))
+                        .build());
+            }
+
+            results.add(ClubApplicantsResult.builder()
+                    .id(application.getId())
+                    .status(application.getStatus())
+                    .answers(decryptedAnswers)
+                    .memo(application.getMemo())
+                    .createdAt(application.getCreatedAt())
+                    .build());
+        }
+        return results;
     }
 }
\ No newline at end of file
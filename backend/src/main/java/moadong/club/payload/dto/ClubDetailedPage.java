@@ -0,0 +1,14 @@
+package moadong.club.payload.dto;
+
+import moadong.club.payload.response.ClubDetailedResponse;
+
+/**
+ * 동아리 상세 응답과 그 응답의 ETag. 동아리 문서를 한 번만 읽어 둘 다 만듭니다.
+ *
+ * @param eTag 카탈로그가 준비되지 않았으면 null
+ */
+public record ClubDetailedPage(
+        ClubDetailedResponse response,
+        String eTag
+) {
+}
@@ -0,0 +1,12 @@
+package moadong.club.payload.dto;
+
+import lombok.Builder;
+import moadong.club.enums.ClubSuggestType;
+
+@Builder
+public record ClubSuggestResult(
+        String keyword,
+        ClubSuggestType type,
+        String clubId
+) {
+}
@@ -0,0 +1,20 @@
+package moadong.club.payload.response;
+
+import lombok.Builder;
+import moadong.club.payload.dto.ClubApplicantsResult;
+
+import java.util.List;
+
+@Builder
+public record ClubApplicantPageResponse(
+        int total,
+        int reviewRequired,
+        int scheduledInterview,
+        int accepted,
+        int page,
+        int size,
+        boolean hasNext,
+        // 현재 페이지의 지원자만 복호화되어 담김
+        List<ClubApplicantsResult> applicants
+) {
+}
@@ -0,0 +1,10 @@
+package moadong.club.payload.response;
+
+import lombok.Builder;
+
+@Builder
+public record ClubApplyReceiptResponse(
+        // 저장될 지원자 id 와 같음
+        String receiptId
+) {
+}
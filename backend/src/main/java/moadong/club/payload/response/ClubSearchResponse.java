@@ -8,6 +8,8 @@ import java.util.List;
 @Builder
 public record ClubSearchResponse(
         List<ClubSearchResult> clubs,
-        int totalCount
+        int totalCount,
+        // 다음 페이지 요청에 넘길 커서. 페이지 조회가 아니거나 마지막 페이지면 null
+        String nextCursor
 ) {
 }
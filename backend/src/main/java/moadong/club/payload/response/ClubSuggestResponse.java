@@ -0,0 +1,11 @@
+package moadong.club.payload.response;
+
+import java.util.List;
+import lombok.Builder;
+import moadong.club.payload.dto.ClubSuggestResult;
+
+@Builder
+public record ClubSuggestResponse(
+        List<ClubSuggestResult> suggestions
+) {
+}
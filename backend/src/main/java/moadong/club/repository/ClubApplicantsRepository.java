@@ -1,7 +1,10 @@
 package moadong.club.repository;
 
 import java.util.List;
+import java.util.Optional;
 import moadong.club.entity.ClubApplicant;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 
@@ -9,5 +12,13 @@ public interface ClubApplicantsRepository extends MongoRepository<ClubApplicant,
     @Query("{ 'formId': ?0, 'status': { $exists: true, $ne: 'DRAFT' } }")
     List<ClubApplicant> findAllByFormId(String questionId);
 
+    // 전체 인원은 따로 집계하므로 count 쿼리가 없는 Slice 로 조회
+    @Query("{ 'formId': ?0, 'status': { $exists: true, $ne: 'DRAFT' } }")
+    Slice<ClubApplicant> findPageByFormId(String formId, Pageable pageable);
+
+    Optional<ClubApplicant> findByIdAndFormId(String id, String formId);
+
     List<ClubApplicant> findAllByIdInAndFormId(List<String> ids, String formId);
-}
\ No newline at end of file
+
+    long countByIdInAndFormId(List<String> ids, String formId);
+}
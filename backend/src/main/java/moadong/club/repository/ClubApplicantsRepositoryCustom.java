@@ -0,0 +1,106 @@
+package moadong.club.repository;
+
+import lombok.AllArgsConstructor;
+import moadong.club.entity.ClubApplicant;
+import moadong.club.enums.ApplicantStatus;
+import moadong.club.payload.dto.ClubApplicantStatusCounts;
+import moadong.club.payload.request.ClubApplicantEditRequest;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@AllArgsConstructor
+public class ClubApplicantsRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * 지원서 양식별 상태 인원을 $group 으로 집계합니다.
+     * (formId, status) 인덱스만으로 처리되어 지원자 답변은 읽지 않습니다.
+     */
+    public ClubApplicantStatusCounts countStatusesByFormId(String formId) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("formId").is(formId)
+                        .and("status").exists(true).ne("DRAFT")),
+                Aggregation.group("status").count().as("count")
+        );
+
+        Map<ApplicantStatus, Integer> counts = new EnumMap<>(ApplicantStatus.class);
+        for (Document result : mongoTemplate.aggregate(aggregation, "club_applicants", Document.class)) {
+            ApplicantStatus status = ApplicantStatus.valueOf(result.getString("_id"));
+            counts.put(status, ((Number) result.get("count")).intValue());
+        }
+        return ClubApplicantStatusCounts.of(counts);
+    }
+
+    /**
+     * 지원자들의 상태와 메모만 한 번의 bulk 요청으로 $set 합니다.
+     * 답변 등 다른 필드는 건드리지 않으므로 요약 메모 갱신 같은 동시 쓰기와 서로 덮어쓰지 않습니다.
+     *
+     * @return 조건(id, formId)에 일치한 지원자 수
+     */
+    public int updateStatusAndMemo(String formId, Collection<ClubApplicantEditRequest> requests) {
+        if (requests.isEmpty()) {
+            return 0;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ClubApplicant.class);
+        for (ClubApplicantEditRequest request : requests) {
+            bulk.updateOne(
+                    Query.query(Criteria.where("_id").is(request.applicantId()).and("formId").is(formId)),
+                    new Update().set("status", request.status()).set("memo", request.memo()));
+        }
+        return bulk.execute().getMatchedCount();
+    }
+
+    /**
+     * 지원자의 메모만 $set 합니다.
+     *
+     * @return 지원자가 존재해 갱신되었는지 여부
+     */
+    public boolean updateMemo(String applicantId, String memo) {
+        return mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(applicantId)),
+                new Update().set("memo", memo),
+                ClubApplicant.class).getMatchedCount() > 0;
+    }
+
+    /**
+     * 지원서 양식에 속한 지원자들을 한 번의 deleteMany 로 삭제합니다.
+     *
+     * @return 삭제된 지원자 수
+     */
+    public long deleteByIdsAndFormId(Collection<String> ids, String formId) {
+        return mongoTemplate.remove(
+                Query.query(Criteria.where("_id").in(ids).and("formId").is(formId)),
+                ClubApplicant.class).getDeletedCount();
+    }
+
+    /**
+     * 지원서 양식의 지원자를 최대 limit 명까지 삭제합니다. 한 번에 너무 많은 문서를 지우지 않도록 나누어 호출합니다.
+     *
+     * @return 삭제된 지원자 수
+     */
+    public long deleteBatchByFormId(String formId, int limit) {
+        Query idQuery = Query.query(Criteria.where("formId").is(formId)).limit(limit);
+        idQuery.fields().include("_id");
+        List<Object> ids = mongoTemplate.find(idQuery, Document.class, "club_applicants").stream()
+                .map(document -> document.get("_id"))
+                .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return mongoTemplate.remove(Query.query(Criteria.where("_id").in(ids)), "club_applicants")
+                .getDeletedCount();
+    }
+}
@@ -15,6 +15,7 @@ public interface ClubApplicationFormsRepository extends MongoRepository<ClubAppl
 
     Optional<ClubApplicationForm> findById(String formId);
     Optional<ClubApplicationForm> findByClubIdAndId(String clubId, String id);
+    boolean existsByClubIdAndId(String clubId, String id);
     List<ClubApplicationForm> findByClubId(String clubId);
 
     @Query(
@@ -6,6 +6,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import lombok.AllArgsConstructor;
+import moadong.club.entity.Club;
 import moadong.club.enums.ClubRecruitmentStatus;
 import moadong.club.enums.ClubState;
 import moadong.club.payload.dto.ClubSearchResult;
@@ -16,6 +17,7 @@ import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
 
 
@@ -68,6 +70,13 @@ public class ClubSearchRepository {
         return results.getMappedResults();
     }
 
+    // 검색 색인 생성용: 활성화된 동아리 전체 (피드/FAQ 등 검색에 쓰지 않는 필드는 제외)
+    public List<Club> findSearchableClubs() {
+        Query query = Query.query(Criteria.where("state").is(ClubState.AVAILABLE.getName()));
+        query.fields().exclude("socialLinks", "recruitmentInformation.feedImages", "recruitmentInformation.faqs");
+        return mongoTemplate.find(query, Club.class);
+    }
+
     public List<ClubSearchResult> searchRecommendClubs(String category, String excludeClubId) {
         Set<String> excludeIds = new HashSet<>();
         if (excludeClubId != null) {
@@ -109,6 +118,7 @@ public class ClubSearchRepository {
         List<AggregationOperation> ops = new ArrayList<>();
 
         Criteria criteria = Criteria.where("category").is(category)
+                .and("state").is(ClubState.AVAILABLE.getName())
                 .and("_id").nin(excludeIds);
 
         if (onlyRecruitAvailable) {
@@ -180,10 +190,11 @@ public class ClubSearchRepository {
         return selected;
     }
 
-    // 전체 클럽에서 랜덤 n개 뽑기 (중복 제거용 excludeIds는 외부에서 처리)
+    // 활성 동아리 전체에서 랜덤 n개 뽑기 (중복 제거용 excludeIds는 외부에서 처리)
     private List<ClubSearchResult> findRandomClubs(Set<String> excludeIds, int sampleSize) {
         List<AggregationOperation> ops = new ArrayList<>();
-        ops.add(Aggregation.match(Criteria.where("_id").nin(excludeIds)));
+        ops.add(Aggregation.match(Criteria.where("state").is(ClubState.AVAILABLE.getName())
+                .and("_id").nin(excludeIds)));
         ops.add(Aggregation.sample((long) sampleSize));
 
         ops.add(
@@ -0,0 +1,188 @@
+package moadong.club.scheduler;
+
+import com.mongodb.bulk.BulkWriteResult;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import moadong.club.entity.ClubApplicant;
+import moadong.club.entity.ClubQuestionAnswer;
+import moadong.global.util.AESCipher;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지원서 답변을 현재 암호화 키/형식으로 조금씩 재암호화합니다.
+ * club_applicants 를 _id 순으로 배치 단위로 훑고, 마지막으로 처리한 _id 를 체크포인트로 저장해 재기동 후에도 이어서 진행합니다.
+ * 한 번에 한 서버만 진행하도록 체크포인트 문서에 임대(lease)를 잡고, 실행 간격과 배치 크기로 처리량을 제한합니다.
+ * 답변이 그 사이 바뀐 지원서는 덮어쓰지 않고 건너뛰며, 건너뛴 지원서가 있으면 한 바퀴를 더 돕니다.
+ */
+@Slf4j
+@Component
+public class ClubApplicantReencryptionScheduler {
+
+    private static final String APPLICANT_COLLECTION = "club_applicants";
+    private static final String CHECKPOINT_COLLECTION = "encryption_checkpoints";
+    private static final String CHECKPOINT_ID = APPLICANT_COLLECTION;
+
+    private final MongoTemplate mongoTemplate;
+    private final AESCipher cipher;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration lease;
+    private final String owner = UUID.randomUUID().toString();
+
+    public ClubApplicantReencryptionScheduler(MongoTemplate mongoTemplate,
+                                              AESCipher cipher,
+                                              @Value("${application.encryption.reencrypt.enabled:true}") boolean enabled,
+                                              @Value("${application.encryption.reencrypt.batch-size:100}") int batchSize,
+                                              @Value("${application.encryption.reencrypt.lease:5m}") Duration lease) {
+        this.mongoTemplate = mongoTemplate;
+        this.cipher = cipher;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.lease = lease;
+    }
+
+    @Scheduled(fixedDelayString = "${application.encryption.reencrypt.interval-millis:1000}",
+            initialDelayString = "${application.encryption.reencrypt.initial-delay-millis:60000}")
+    public void reencryptNextBatch() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Document checkpoint = acquireCheckpoint();
+            if (checkpoint != null) {
+                process(checkpoint);
+            }
+        } catch (RuntimeException e) {
+            log.error("지원서 재암호화 실패", e);
+        }
+    }
+
+    private void process(Document checkpoint) {
+        String keyId = cipher.activeKeyId();
+        if (!keyId.equals(checkpoint.getString("keyId"))) {
+            // 키가 바뀌었으면 처음부터 다시 진행
+            saveCheckpoint(new Update().set("keyId", keyId).unset("lastId").set("skipped", 0L)
+                    .set("reencrypted", 0L).set("completed", false).set("startedAt", new Date()));
+            return;
+        }
+        if (checkpoint.getBoolean("completed", false)) {
+            return;
+        }
+
+        ObjectId lastId = checkpoint.getObjectId("lastId");
+        Query query = new Query();
+        if (lastId != null) {
+            query.addCriteria(Criteria.where("_id").gt(lastId));
+        }
+        query.with(Sort.by(Sort.Direction.ASC, "_id")).limit(batchSize);
+        query.fields().include("answers");
+        List<ClubApplicant> applicants = mongoTemplate.find(query, ClubApplicant.class);
+
+        if (applicants.isEmpty()) {
+            finishPass(checkpoint);
+            return;
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ClubApplicant.class);
+        int updates = 0;
+        for (ClubApplicant applicant : applicants) {
+            List<ClubQuestionAnswer> reencrypted = reencrypt(applicant);
+            if (reencrypted == null) {
+                continue;
+            }
+            // 읽은 뒤 답변이 바뀌었으면 일치하지 않아 갱신되지 않음
+            bulk.updateOne(
+                    Query.query(Criteria.where("_id").is(applicant.getId()).and("answers").is(applicant.getAnswers())),
+                    new Update().set("answers", reencrypted));
+            updates++;
+        }
+
+        long matched = 0;
+        if (updates > 0) {
+            BulkWriteResult result = bulk.execute();
+            matched = result.getMatchedCount();
+        }
+
+        saveCheckpoint(new Update()
+                .set("lastId", new ObjectId(applicants.get(applicants.size() - 1).getId()))
+                .inc("reencrypted", matched)
+                .inc("skipped", updates - matched));
+    }
+
+    // 재암호화가 필요 없으면 null
+    private List<ClubQuestionAnswer> reencrypt(ClubApplicant applicant) {
+        if (applicant.getAnswers() == null
+                || applicant.getAnswers().stream().noneMatch(answer -> needsReencryption(answer.getValue()))) {
+            return null;
+        }
+        List<ClubQuestionAnswer> reencrypted = new ArrayList<>(applicant.getAnswers().size());
+        try {
+            for (ClubQuestionAnswer answer : applicant.getAnswers()) {
+                String value = needsReencryption(answer.getValue())
+                        ? cipher.encrypt(cipher.decrypt(answer.getValue()))
+                        : answer.getValue();
+                reencrypted.add(answer.toBuilder().value(value).build());
+            }
+        } catch (Exception e) {
+            // 복호화할 수 없는 지원서는 그대로 두고 다음으로 진행
+            log.error("지원서 재암호화 중 복호화 실패: applicantId={}", applicant.getId(), e);
+            return null;
+        }
+        return reencrypted;
+    }
+
+    private boolean needsReencryption(String value) {
+        return value != null && cipher.needsReencryption(value);
+    }
+
+    private void finishPass(Document checkpoint) {
+        long skipped = checkpoint.get("skipped", 0L);
+        if (skipped > 0) {
+            log.info("지원서 재암호화 한 바퀴 완료, 건너뛴 {}건을 위해 다시 진행합니다. keyId={}", skipped, cipher.activeKeyId());
+            saveCheckpoint(new Update().unset("lastId").set("skipped", 0L));
+            return;
+        }
+        log.info("지원서 재암호화 완료: keyId={}, reencrypted={}", cipher.activeKeyId(), checkpoint.get("reencrypted", 0L));
+        saveCheckpoint(new Update().set("completed", true).set("completedAt", new Date()));
+    }
+
+    // 임대가 끝났거나 이미 이 서버가 잡고 있는 체크포인트만 가져옴. 다른 서버가 진행 중이면 null
+    private Document acquireCheckpoint() {
+        Instant now = Instant.now();
+        Query query = Query.query(Criteria.where("_id").is(CHECKPOINT_ID)
+                .orOperator(Criteria.where("leaseUntil").lt(Date.from(now)), Criteria.where("owner").is(owner)));
+        Update update = new Update()
+                .set("owner", owner)
+                .set("leaseUntil", Date.from(now.plus(lease)));
+        try {
+            return mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true),
+                    Document.class, CHECKPOINT_COLLECTION);
+        } catch (DuplicateKeyException e) {
+            return null;
+        }
+    }
+
+    private void saveCheckpoint(Update update) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(CHECKPOINT_ID).and("owner").is(owner)),
+                update, CHECKPOINT_COLLECTION);
+    }
+}
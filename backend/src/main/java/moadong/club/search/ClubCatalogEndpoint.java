@@ -0,0 +1,44 @@
+package moadong.club.search;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동아리 카탈로그 스냅샷 관리용 actuator 엔드포인트.
+ * GET /actuator/clubcatalog 로 현재 노드의 스냅샷 상태를 보고,
+ * POST /actuator/clubcatalog 로 Mongo 에서 강제로 다시 읽어옵니다.
+ */
+@Component
+@Endpoint(id = "clubcatalog")
+@RequiredArgsConstructor
+public class ClubCatalogEndpoint {
+
+    private final ClubSearchEngine clubSearchEngine;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        ClubCatalogSnapshot snapshot = clubSearchEngine.snapshot();
+        status.put("ready", snapshot != null);
+        if (snapshot != null) {
+            status.put("version", snapshot.version());
+            status.put("size", snapshot.index().size());
+            status.put("syncedAt", snapshot.syncedAt().toString());
+            status.put("updatedAt", snapshot.updatedAt().toString());
+        }
+        return status;
+    }
+
+    @WriteOperation
+    public Map<String, Object> refresh() {
+        boolean refreshed = clubSearchEngine.rebuild();
+        Map<String, Object> status = status();
+        status.put("refreshed", refreshed);
+        return status;
+    }
+}
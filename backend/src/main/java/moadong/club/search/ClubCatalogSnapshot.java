@@ -0,0 +1,34 @@
+package moadong.club.search;
+
+import java.time.Instant;
+
+/**
+ * 검색 가능한(AVAILABLE) 동아리 목록의 불변 스냅샷.
+ * 동아리가 바뀔 때마다 새 스냅샷을 만들어 통째로 교체하며, version 은 교체될 때마다 1씩 증가합니다.
+ *
+ * @param version   노드 내에서 단조 증가하는 카탈로그 버전
+ * @param syncedAt  Mongo 에서 전체를 마지막으로 다시 읽은 시각
+ * @param updatedAt 마지막으로 스냅샷이 교체된 시각
+ */
+public record ClubCatalogSnapshot(
+        long version,
+        Instant syncedAt,
+        Instant updatedAt,
+        ClubSearchIndex index
+) {
+
+    public ClubCatalogSnapshot synced(ClubSearchIndex next, Instant now) {
+        return new ClubCatalogSnapshot(version + 1, now, now, next);
+    }
+
+    public ClubCatalogSnapshot resynced(Instant now) {
+        return new ClubCatalogSnapshot(version, now, updatedAt, index);
+    }
+
+    public ClubCatalogSnapshot updated(ClubSearchIndex next, Instant now) {
+        if (next == index) {
+            return this;
+        }
+        return new ClubCatalogSnapshot(version + 1, syncedAt, now, next);
+    }
+}
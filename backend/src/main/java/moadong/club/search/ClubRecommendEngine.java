@@ -0,0 +1,42 @@
+package moadong.club.search;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import moadong.club.payload.dto.ClubSearchResult;
+import moadong.club.repository.ClubSearchRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동아리 상세 페이지의 추천 동아리를 매 요청마다 $sample 집계 대신 메모리 풀에서 뽑습니다.
+ * 풀은 카탈로그 스냅샷 버전이 바뀐 뒤 첫 요청에서 다시 만들어지므로,
+ * 모집 상태 변경처럼 동아리가 저장되면 다음 추천부터 바로 반영됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClubRecommendEngine {
+
+    private final ClubSearchEngine clubSearchEngine;
+    private final ClubSearchRepository clubSearchRepository;
+
+    private volatile ClubRecommendPools pools;
+
+    public List<ClubSearchResult> recommend(String category, String excludeClubId) {
+        ClubCatalogSnapshot snapshot = clubSearchEngine.snapshot();
+        if (snapshot == null) {
+            // 카탈로그가 아직 준비되지 않았다면 기존 Mongo 추천으로 처리
+            return clubSearchRepository.searchRecommendClubs(category, excludeClubId);
+        }
+        return poolsOf(snapshot).recommend(category, excludeClubId);
+    }
+
+    private ClubRecommendPools poolsOf(ClubCatalogSnapshot snapshot) {
+        ClubRecommendPools current = pools;
+        if (current != null && current.catalogVersion() == snapshot.version()) {
+            return current;
+        }
+        // 동시에 여러 요청이 다시 만들어도 결과가 같으므로 잠그지 않음
+        ClubRecommendPools rebuilt = new ClubRecommendPools(snapshot.version(), snapshot.index().documents());
+        pools = rebuilt;
+        return rebuilt;
+    }
+}
@@ -0,0 +1,109 @@
+package moadong.club.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import moadong.club.enums.ClubRecruitmentStatus;
+import moadong.club.payload.dto.ClubSearchResult;
+
+/**
+ * 추천 동아리 추출용 풀. 카탈로그 스냅샷 한 버전으로부터 만들어지며 만든 뒤에는 바뀌지 않습니다.
+ * 카테고리별 모집중/그 외 풀과 전체 풀을 미리 나눠 두고, 추천은 {@link RandomSampler}로 뽑습니다.
+ * 뽑는 규칙은 기존 ClubSearchRepository.searchRecommendClubs 와 같습니다.
+ * 후보는 카탈로그에 담긴 AVAILABLE 동아리뿐이므로, 비활성 동아리는 추천되지 않습니다.
+ */
+public class ClubRecommendPools {
+
+    public static final int TOTAL_COUNT = 6;
+    public static final int CATEGORY_COUNT = 4;
+
+    // 전체 풀에서 먼저 뽑은 뒤 모집중 우선으로 고르는 후보 수
+    private static final int RANDOM_POOL_SIZE = 10;
+
+    private final long catalogVersion;
+    private final Map<String, List<ClubSearchResult>> recruitingByCategory = new HashMap<>();
+    private final Map<String, List<ClubSearchResult>> othersByCategory = new HashMap<>();
+    private final List<ClubSearchResult> all = new ArrayList<>();
+
+    public ClubRecommendPools(long catalogVersion, Collection<ClubSearchDocument> documents) {
+        this.catalogVersion = catalogVersion;
+        for (ClubSearchDocument document : documents) {
+            ClubSearchResult club = document.result();
+            all.add(club);
+            Map<String, List<ClubSearchResult>> pools = isRecruiting(club) ? recruitingByCategory : othersByCategory;
+            pools.computeIfAbsent(club.category(), key -> new ArrayList<>()).add(club);
+        }
+    }
+
+    public long catalogVersion() {
+        return catalogVersion;
+    }
+
+    public List<ClubSearchResult> recommend(String category, String excludeClubId) {
+        Set<String> excludeIds = new HashSet<>();
+        if (excludeClubId != null) {
+            excludeIds.add(excludeClubId);
+        }
+        List<ClubSearchResult> result = new ArrayList<>(TOTAL_COUNT);
+
+        // 1. 같은 카테고리 모집중 동아리 최대 4개
+        addClubs(result, excludeIds, draw(recruitingByCategory.get(category), CATEGORY_COUNT, excludeIds));
+
+        // 2. 부족하면 같은 카테고리의 마감 동아리로 채우기
+        int remainCount = CATEGORY_COUNT - result.size();
+        if (remainCount > 0) {
+            addClubs(result, excludeIds, draw(othersByCategory.get(category), remainCount, excludeIds));
+        }
+
+        // 3. 나머지는 전체 랜덤 후보 중 모집중 우선으로 채우기
+        int randomNeeded = TOTAL_COUNT - result.size();
+        if (randomNeeded > 0) {
+            List<ClubSearchResult> randomPool = draw(all, RANDOM_POOL_SIZE, excludeIds);
+            addClubs(result, excludeIds, selectClubsByStatePriority(randomPool, randomNeeded));
+        }
+
+        return result;
+    }
+
+    private static List<ClubSearchResult> draw(List<ClubSearchResult> pool, int count, Set<String> excludeIds) {
+        if (pool == null) {
+            return List.of();
+        }
+        return RandomSampler.sample(pool, count, excludeIds.size(), club -> !excludeIds.contains(club.id()));
+    }
+
+    private static void addClubs(List<ClubSearchResult> result, Set<String> excludeIds, List<ClubSearchResult> clubs) {
+        for (ClubSearchResult club : clubs) {
+            if (excludeIds.add(club.id())) {
+                result.add(club);
+            }
+        }
+    }
+
+    private static List<ClubSearchResult> selectClubsByStatePriority(List<ClubSearchResult> pool, int maxCount) {
+        List<ClubSearchResult> selected = new ArrayList<>(maxCount);
+        // 모집중 우선 선택, 부족하면 모집 마감 동아리 추가
+        for (ClubSearchResult club : pool) {
+            if (selected.size() >= maxCount) break;
+            if (isRecruiting(club)) {
+                selected.add(club);
+            }
+        }
+        for (ClubSearchResult club : pool) {
+            if (selected.size() >= maxCount) break;
+            if (!isRecruiting(club)) {
+                selected.add(club);
+            }
+        }
+        return selected;
+    }
+
+    private static boolean isRecruiting(ClubSearchResult club) {
+        String status = club.recruitmentStatus();
+        return ClubRecruitmentStatus.ALWAYS.name().equals(status) || ClubRecruitmentStatus.OPEN.name().equals(status);
+    }
+}
@@ -0,0 +1,81 @@
+package moadong.club.search;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import moadong.club.payload.dto.ClubSearchResult;
+import moadong.global.exception.ErrorCode;
+import moadong.global.exception.RestApiException;
+
+/**
+ * 검색 페이지 커서. 정렬 seed 와 이전 페이지 마지막 동아리의 정렬 키를 담아,
+ * 다음 페이지를 오프셋이 아닌 "마지막 동아리 다음" 기준으로 찾습니다.
+ * 그래서 페이지를 넘기는 사이 동아리가 추가/삭제되어도 중복되거나 빠지는 동아리가 생기지 않습니다.
+ */
+public record ClubSearchCursor(
+        long seed,
+        String recruitmentStatus,
+        String category,
+        String name,
+        String id
+) {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    public static ClubSearchCursor after(long seed, ClubSearchResult last) {
+        return new ClubSearchCursor(seed, last.recruitmentStatus(), last.category(), last.name(), last.id());
+    }
+
+    // 정렬 비교에 쓰는 필드만 채운 동아리
+    public ClubSearchResult lastClub() {
+        return ClubSearchResult.builder()
+                .recruitmentStatus(recruitmentStatus)
+                .category(category)
+                .name(name)
+                .id(id)
+                .build();
+    }
+
+    public String encode() {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(seed);
+            writeNullable(out, recruitmentStatus);
+            writeNullable(out, category);
+            writeNullable(out, name);
+            writeNullable(out, id);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static ClubSearchCursor decode(String cursor) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)));
+            if (in.readByte() != FORMAT_VERSION) {
+                throw new RestApiException(ErrorCode.CLUB_SEARCH_CURSOR_INVALID);
+            }
+            return new ClubSearchCursor(in.readLong(), readNullable(in), readNullable(in), readNullable(in),
+                    readNullable(in));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new RestApiException(ErrorCode.CLUB_SEARCH_CURSOR_INVALID);
+        }
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,69 @@
+package moadong.club.search;
+
+import java.util.List;
+import moadong.club.entity.Club;
+import moadong.club.entity.ClubRecruitmentInformation;
+import moadong.club.payload.dto.ClubSearchResult;
+
+/**
+ * 검색 인덱스에 올라가는 동아리 한 건.
+ * 응답용 {@link ClubSearchResult}와 키워드 매칭에 쓰는 검색 키를 미리 계산해 함께 보관합니다.
+ *
+ * @param searchKey   이름/소개/설명/태그를 음절 경계를 표시해 자모 단위로 분해한 키
+ * @param choseongKey 이름/태그의 초성 키
+ */
+public record ClubSearchDocument(
+        String id,
+        Long version,
+        ClubSearchResult result,
+        String searchKey,
+        String choseongKey
+) {
+
+    // 필드 경계를 넘어 매칭되지 않도록 구분자로 이어 붙임
+    private static final String FIELD_SEPARATOR = "\n";
+
+    public static ClubSearchDocument from(Club club) {
+        ClubRecruitmentInformation info = club.getClubRecruitmentInformation();
+        List<String> tags = info.getTags() == null ? List.of() : List.copyOf(info.getTags());
+
+        ClubSearchResult result = ClubSearchResult.builder()
+                .id(club.getId())
+                .name(club.getName())
+                .logo(info.getLogo() == null ? "" : info.getLogo())
+                .tags(tags)
+                .state(club.getState() == null ? null : club.getState().getName())
+                .category(club.getCategory())
+                .division(club.getDivision())
+                .introduction(info.getIntroduction())
+                .recruitmentStatus(info.getClubRecruitmentStatus() == null ? null
+                        : info.getClubRecruitmentStatus().name())
+                .build();
+
+        StringBuilder text = new StringBuilder();
+        append(text, club.getName());
+        append(text, info.getIntroduction());
+        append(text, info.getDescription());
+        tags.forEach(tag -> append(text, tag));
+
+        // 초성 검색은 설명까지 넣으면 오탐이 많아 이름과 태그만 대상으로 함
+        StringBuilder choseongText = new StringBuilder();
+        append(choseongText, club.getName());
+        tags.forEach(tag -> append(choseongText, tag));
+
+        return new ClubSearchDocument(
+                club.getId(),
+                club.getVersion(),
+                result,
+                HangulTokenizer.searchKey(text.toString()),
+                HangulTokenizer.choseong(choseongText.toString())
+        );
+    }
+
+    private static void append(StringBuilder text, String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        text.append(value).append(FIELD_SEPARATOR);
+    }
+}
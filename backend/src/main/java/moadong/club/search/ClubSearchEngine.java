@@ -0,0 +1,261 @@
+package moadong.club.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import moadong.club.entity.Club;
+import moadong.club.enums.ClubState;
+import moadong.club.payload.dto.ClubSearchResult;
+import moadong.club.repository.ClubSearchRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동아리 검색을 Mongo 대신 메모리 카탈로그 스냅샷으로 처리합니다.
+ * 기동 시 전체 색인(검색 색인, 자동완성 트라이)을 만들고, 동아리 저장 이벤트마다 해당 동아리만 갱신한
+ * 새 스냅샷으로 원자적으로 교체합니다. 다른 서버에서 저장된 변경은 주기적인 전체 재색인으로 따라잡습니다.
+ * 동아리 문서의 @Version 을 비교해 늦게 도착한 이전 버전으로 덮어쓰지 않고,
+ * 전체 재색인이 읽는 동안 삭제되거나 검색 대상에서 빠진 동아리를 되살리지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClubSearchEngine {
+
+    private final ClubSearchRepository clubSearchRepository;
+    private final ClubSuggestEngine clubSuggestEngine;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicReference<ClubCatalogSnapshot> snapshot = new AtomicReference<>();
+
+    // 전체 재색인이 Mongo 를 읽는 동안 저장/삭제 이벤트로 바뀐 동아리. 진행 중인 재색인이 있을 때만 기록 (this 로 보호)
+    private final Map<String, Long> changedDuring = new HashMap<>();
+    private long changeSequence;
+    private int rebuildsInProgress;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("club.catalog.version", this, engine -> engine.catalogVersion())
+                .description("노드의 동아리 카탈로그 스냅샷 버전")
+                .register(meterRegistry);
+        Gauge.builder("club.catalog.size", this, engine -> {
+                    ClubCatalogSnapshot current = engine.snapshot.get();
+                    return current == null ? 0 : current.index().size();
+                })
+                .description("스냅샷에 포함된 동아리 수")
+                .register(meterRegistry);
+        Gauge.builder("club.catalog.sync.age", this, engine -> engine.secondsSince(ClubCatalogSnapshot::syncedAt))
+                .description("Mongo 전체 동기화 이후 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("club.catalog.update.age", this, engine -> engine.secondsSince(ClubCatalogSnapshot::updatedAt))
+                .description("마지막 스냅샷 교체 이후 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${club.search.index.refresh-millis:300000}",
+            initialDelayString = "${club.search.index.refresh-millis:300000}")
+    public void refresh() {
+        rebuild();
+    }
+
+    public boolean rebuild() {
+        long startedAt;
+        synchronized (this) {
+            rebuildsInProgress++;
+            startedAt = changeSequence;
+        }
+
+        List<ClubSearchDocument> loaded;
+        try {
+            loaded = clubSearchRepository.findSearchableClubs().stream()
+                    .map(ClubSearchDocument::from)
+                    .toList();
+        } catch (Exception e) {
+            log.error("동아리 검색 색인 생성 실패", e);
+            synchronized (this) {
+                finishRebuild();
+            }
+            return false;
+        }
+
+        synchronized (this) {
+            ClubCatalogSnapshot current = snapshot.get();
+            List<ClubSearchDocument> documents = (current == null)
+                    ? loaded
+                    : merge(loaded, current.index(), changedSince(startedAt));
+            finishRebuild();
+            Instant now = Instant.now();
+            if (current != null && current.index().hasSameDocuments(documents)) {
+                // 바뀐 동아리가 없으면 버전을 올리지 않아 정렬 결과 캐시와 추천 풀이 불필요하게 무효화되지 않도록 함
+                snapshot.set(current.resynced(now));
+            } else {
+                ClubSearchIndex index = ClubSearchIndex.build(documents);
+                snapshot.set(current == null
+                        ? new ClubCatalogSnapshot(1, now, now, index)
+                        : current.synced(index, now));
+                clubSuggestEngine.rebuild(documents);
+            }
+        }
+        log.info("동아리 검색 색인 생성 완료: {}건", loaded.size());
+        return true;
+    }
+
+    public synchronized void update(Club club) {
+        ClubCatalogSnapshot current = snapshot.get();
+        if (current == null || club.getId() == null) {
+            return;
+        }
+        if (isStale(current.index().document(club.getId()), club.getVersion())) {
+            return;
+        }
+        recordChange(club.getId());
+
+        ClubSearchIndex next;
+        if (club.getState() == ClubState.AVAILABLE) {
+            ClubSearchDocument document = ClubSearchDocument.from(club);
+            next = current.index().with(document);
+            clubSuggestEngine.update(document);
+        } else {
+            next = current.index().without(club.getId());
+            clubSuggestEngine.remove(club.getId());
+        }
+        snapshot.set(current.updated(next, Instant.now()));
+    }
+
+    public synchronized void remove(String clubId) {
+        ClubCatalogSnapshot current = snapshot.get();
+        if (current == null || clubId == null) {
+            return;
+        }
+        recordChange(clubId);
+        snapshot.set(current.updated(current.index().without(clubId), Instant.now()));
+        clubSuggestEngine.remove(clubId);
+    }
+
+    public List<ClubSearchResult> search(String keyword, String recruitmentStatus,
+                                         String division, String category) {
+        ClubCatalogSnapshot current = snapshot.get();
+        if (current == null) {
+            // 색인이 아직 준비되지 않았다면 기존 Mongo 검색으로 처리
+            return clubSearchRepository.searchClubsByKeyword(keyword, recruitmentStatus, division, category);
+        }
+        return current.index().search(keyword, recruitmentStatus, division, category);
+    }
+
+    /**
+     * 조건에 맞는 동아리 중 order 순서로 after 다음 size 개를 반환합니다. 전체 결과를 정렬하지 않습니다.
+     */
+    public ClubSearchPage searchPage(String keyword, String recruitmentStatus, String division, String category,
+                                     Comparator<ClubSearchResult> order, ClubSearchResult after, int size) {
+        ClubSearchPageCollector collector = new ClubSearchPageCollector(order, after, size);
+        ClubCatalogSnapshot current = snapshot.get();
+        if (current == null) {
+            clubSearchRepository.searchClubsByKeyword(keyword, recruitmentStatus, division, category)
+                    .forEach(collector);
+        } else {
+            current.index().forEachMatch(keyword, recruitmentStatus, division, category, collector);
+        }
+        return collector.page();
+    }
+
+    public ClubCatalogSnapshot snapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * 조건부 요청(ETag)에 쓰는 카탈로그 식별자. 카탈로그가 아직 준비되지 않았다면 null 입니다.
+     * 노드마다 따로 증가하는 스냅샷 버전 대신 담긴 동아리 문서로 만들어, 같은 내용이면 어느 노드에서나 같습니다.
+     */
+    public String catalogTag() {
+        ClubCatalogSnapshot current = snapshot.get();
+        return current == null ? null : current.index().contentTag();
+    }
+
+    public long catalogVersion() {
+        ClubCatalogSnapshot current = snapshot.get();
+        return current == null ? 0 : current.version();
+    }
+
+    private double secondsSince(Function<ClubCatalogSnapshot, Instant> time) {
+        ClubCatalogSnapshot current = snapshot.get();
+        if (current == null) {
+            return Double.NaN;
+        }
+        return Duration.between(time.apply(current), Instant.now()).toMillis() / 1000.0;
+    }
+
+    private static boolean isStale(ClubSearchDocument existing, Long incomingVersion) {
+        return existing != null && existing.version() != null && incomingVersion != null
+                && incomingVersion < existing.version();
+    }
+
+    private void recordChange(String clubId) {
+        if (rebuildsInProgress > 0) {
+            changedDuring.put(clubId, ++changeSequence);
+        }
+    }
+
+    private Set<String> changedSince(long startedAt) {
+        Set<String> changed = new HashSet<>();
+        changedDuring.forEach((clubId, sequence) -> {
+            if (sequence > startedAt) {
+                changed.add(clubId);
+            }
+        });
+        return changed;
+    }
+
+    private void finishRebuild() {
+        if (--rebuildsInProgress == 0) {
+            changedDuring.clear();
+        }
+    }
+
+    /**
+     * 읽어 온 동아리와 현재 스냅샷을 합칩니다.
+     * 읽는 동안 이벤트로 바뀐 동아리는 현재 스냅샷의 상태를 따르므로, 그 사이 삭제되거나 검색 대상에서 빠진 동아리를 되살리지 않고
+     * 새로 검색 대상이 된 동아리도 빠뜨리지 않습니다. 나머지는 버전이 높은 쪽을 유지합니다.
+     */
+    private static List<ClubSearchDocument> merge(List<ClubSearchDocument> loaded, ClubSearchIndex current,
+                                                  Set<String> changed) {
+        List<ClubSearchDocument> merged = new ArrayList<>(loaded.size());
+        Set<String> loadedIds = new HashSet<>();
+        for (ClubSearchDocument document : loaded) {
+            loadedIds.add(document.id());
+            ClubSearchDocument existing = current.document(document.id());
+            if (changed.contains(document.id()) && existing == null) {
+                continue;
+            }
+            merged.add(isStale(existing, document.version()) ? existing : document);
+        }
+        for (String clubId : changed) {
+            ClubSearchDocument existing = current.document(clubId);
+            if (existing != null && !loadedIds.contains(clubId)) {
+                merged.add(existing);
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,231 @@
+package moadong.club.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import moadong.club.enums.ClubRecruitmentStatus;
+import moadong.club.payload.dto.ClubSearchResult;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 동아리 검색용 불변 역색인.
+ * 음절 경계를 표시해 자모 단위로 분해한 검색 키를 1~2-gram 으로 쪼개 posting 을 만들고,
+ * 키워드 n-gram posting 교집합을 후보로 삼은 뒤 실제 포함 여부로 한 번 더 확인합니다.
+ * 입력 중인 마지막 음절의 받침이 다음 음절 초성일 수 있으면 두 검색 키의 후보를 합칩니다.
+ * 초성으로만 이루어진 키워드는 이름/태그의 초성 키 posting 도 함께 조회합니다.
+ * 변경 시에는 새 인덱스를 만들어 교체하므로 읽기 쪽은 잠금 없이 사용할 수 있습니다.
+ */
+public final class ClubSearchIndex {
+
+    private static final int GRAM_SIZE = 2;
+
+    private final Map<String, ClubSearchDocument> documents;
+    private final Map<String, Set<String>> postings;
+    private final Map<String, Set<String>> choseongPostings;
+    private final String contentTag;
+
+    private ClubSearchIndex(Map<String, ClubSearchDocument> documents) {
+        this.documents = Collections.unmodifiableMap(documents);
+        this.postings = buildPostings(documents.values(), ClubSearchDocument::searchKey);
+        this.choseongPostings = buildPostings(documents.values(), ClubSearchDocument::choseongKey);
+        this.contentTag = buildContentTag(documents.values());
+    }
+
+    public static ClubSearchIndex build(Collection<ClubSearchDocument> documents) {
+        Map<String, ClubSearchDocument> byId = new LinkedHashMap<>();
+        for (ClubSearchDocument document : documents) {
+            byId.put(document.id(), document);
+        }
+        return new ClubSearchIndex(byId);
+    }
+
+    public ClubSearchIndex with(ClubSearchDocument document) {
+        Map<String, ClubSearchDocument> next = new LinkedHashMap<>(documents);
+        next.put(document.id(), document);
+        return new ClubSearchIndex(next);
+    }
+
+    public ClubSearchIndex without(String clubId) {
+        if (!documents.containsKey(clubId)) {
+            return this;
+        }
+        Map<String, ClubSearchDocument> next = new LinkedHashMap<>(documents);
+        next.remove(clubId);
+        return new ClubSearchIndex(next);
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public ClubSearchDocument document(String clubId) {
+        return documents.get(clubId);
+    }
+
+    public Collection<ClubSearchDocument> documents() {
+        return documents.values();
+    }
+
+    /**
+     * 색인에 담긴 동아리 id 와 @Version 으로 만든 해시. 같은 동아리 문서를 담은 색인이면 노드나 재기동과 관계없이 같습니다.
+     */
+    public String contentTag() {
+        return contentTag;
+    }
+
+    public boolean hasSameDocuments(Collection<ClubSearchDocument> others) {
+        if (others.size() != documents.size()) {
+            return false;
+        }
+        for (ClubSearchDocument other : others) {
+            if (!other.equals(documents.get(other.id()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public List<ClubSearchResult> search(String keyword, String recruitmentStatus,
+                                         String division, String category) {
+        List<ClubSearchResult> results = new ArrayList<>();
+        forEachMatch(keyword, recruitmentStatus, division, category, results::add);
+
+        results.sort(Comparator
+                .comparing(ClubSearchResult::division, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(ClubSearchResult::category, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return results;
+    }
+
+    /**
+     * 조건에 맞는 동아리를 정렬하지 않고 순서대로 넘겨줍니다. 결과 목록을 따로 만들지 않아야 할 때 사용합니다.
+     */
+    public void forEachMatch(String keyword, String recruitmentStatus, String division, String category,
+                             Consumer<ClubSearchResult> action) {
+        Set<String> statuses = targetStatuses(recruitmentStatus);
+        boolean hasKeyword = keyword != null && !keyword.trim().isEmpty();
+        List<String> jamoKeywords = hasKeyword ? HangulTokenizer.searchKeys(keyword) : null;
+        String choseongKeyword = hasKeyword && HangulTokenizer.isChoseongOnly(keyword) ? keyword : null;
+
+        for (ClubSearchDocument document : candidates(jamoKeywords, choseongKeyword)) {
+            ClubSearchResult club = document.result();
+            if (statuses != null && !statuses.contains(club.recruitmentStatus())) continue;
+            if (!matchesFilter(division, club.division())) continue;
+            if (!matchesFilter(category, club.category())) continue;
+            if (hasKeyword && !matchesKeyword(document, jamoKeywords, choseongKeyword)) continue;
+            action.accept(club);
+        }
+    }
+
+    private static boolean matchesKeyword(ClubSearchDocument document, List<String> jamoKeywords, String choseongKeyword) {
+        for (String jamoKeyword : jamoKeywords) {
+            if (document.searchKey().contains(jamoKeyword)) {
+                return true;
+            }
+        }
+        return choseongKeyword != null && document.choseongKey().contains(choseongKeyword);
+    }
+
+    private Collection<ClubSearchDocument> candidates(List<String> jamoKeywords, String choseongKeyword) {
+        if (jamoKeywords == null) {
+            return documents.values();
+        }
+
+        Set<String> ids = new HashSet<>();
+        for (String jamoKeyword : jamoKeywords) {
+            ids.addAll(lookup(postings, jamoKeyword));
+        }
+        if (choseongKeyword != null) {
+            ids.addAll(lookup(choseongPostings, choseongKeyword));
+        }
+
+        List<ClubSearchDocument> candidates = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            candidates.add(documents.get(id));
+        }
+        return candidates;
+    }
+
+    private static Set<String> lookup(Map<String, Set<String>> postings, String keyword) {
+        Set<String> ids = null;
+        for (String gram : queryGrams(keyword)) {
+            Set<String> posting = postings.get(gram);
+            if (posting == null) {
+                return new HashSet<>();
+            }
+            if (ids == null) {
+                ids = new HashSet<>(posting);
+            } else {
+                ids.retainAll(posting);
+            }
+            if (ids.isEmpty()) {
+                return ids;
+            }
+        }
+        return ids == null ? new HashSet<>() : ids;
+    }
+
+    // 기존 Mongo 조건과 동일: OPEN 검색 시 상시모집/모집예정까지 포함, all 이면 필터 없음
+    private static Set<String> targetStatuses(String recruitmentStatus) {
+        if (recruitmentStatus == null || "all".equalsIgnoreCase(recruitmentStatus)) {
+            return null;
+        }
+        if (recruitmentStatus.equalsIgnoreCase(ClubRecruitmentStatus.OPEN.toString())) {
+            return Set.of(
+                    ClubRecruitmentStatus.ALWAYS.toString(),
+                    ClubRecruitmentStatus.OPEN.toString(),
+                    ClubRecruitmentStatus.UPCOMING.toString());
+        }
+        return Set.of(recruitmentStatus);
+    }
+
+    private static boolean matchesFilter(String filter, String value) {
+        if (filter == null || "all".equalsIgnoreCase(filter)) {
+            return true;
+        }
+        return filter.equals(value);
+    }
+
+    private static Map<String, Set<String>> buildPostings(Collection<ClubSearchDocument> documents,
+                                                          Function<ClubSearchDocument, String> key) {
+        Map<String, Set<String>> postings = new HashMap<>();
+        for (ClubSearchDocument document : documents) {
+            for (String gram : HangulTokenizer.ngrams(key.apply(document), GRAM_SIZE)) {
+                postings.computeIfAbsent(gram, k -> new HashSet<>()).add(document.id());
+            }
+        }
+        return postings;
+    }
+
+    private static String buildContentTag(Collection<ClubSearchDocument> documents) {
+        StringBuilder content = new StringBuilder();
+        documents.stream()
+                .sorted(Comparator.comparing(ClubSearchDocument::id))
+                // 버전이 없는 예전 문서는 응답 내용으로 대신함
+                .forEach(document -> content.append(document.id()).append('\u0000')
+                        .append(document.version() != null ? document.version() : document.result())
+                        .append('\u0001'));
+        return DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 키워드가 한 글자면 1-gram, 그 외에는 2-gram 으로 쪼갭니다. (문서 쪽은 1~2-gram 을 모두 색인)
+    static List<String> queryGrams(String keyword) {
+        if (keyword.length() < GRAM_SIZE) {
+            return List.of(keyword);
+        }
+        List<String> grams = new ArrayList<>();
+        for (int i = 0; i + GRAM_SIZE <= keyword.length(); i++) {
+            grams.add(keyword.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+}
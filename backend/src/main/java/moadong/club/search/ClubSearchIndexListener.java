@@ -0,0 +1,31 @@
+package moadong.club.search;
+
+import lombok.RequiredArgsConstructor;
+import moadong.club.entity.Club;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+// 동아리 문서가 저장/삭제될 때마다 검색 색인에 반영
+@Component
+@RequiredArgsConstructor
+public class ClubSearchIndexListener extends AbstractMongoEventListener<Club> {
+
+    private final ClubSearchEngine clubSearchEngine;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Club> event) {
+        clubSearchEngine.update(event.getSource());
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Club> event) {
+        Document source = event.getSource();
+        Object id = source.get("_id");
+        if (id != null) {
+            clubSearchEngine.remove(id.toString());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package moadong.club.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import moadong.club.enums.ClubCategory;
+import moadong.club.enums.ClubRecruitmentStatus;
+import moadong.club.payload.dto.ClubSearchResult;
+
+/**
+ * 검색 결과 정렬 순서. 모집 상태 우선순위 → 카테고리 → 이름 → id 순으로 정렬하며,
+ * 카테고리 순서는 특정 카테고리가 항상 위에 오지 않도록 seed 로 섞습니다.
+ * 같은 seed 면 항상 같은 순서가 되므로 페이지를 넘겨도 순서가 유지됩니다.
+ */
+public final class ClubSearchOrder {
+
+    private final long seed;
+    private final Map<String, Integer> categoryPriorities;
+    private final Comparator<ClubSearchResult> comparator;
+
+    private ClubSearchOrder(long seed) {
+        this.seed = seed;
+        this.categoryPriorities = shuffledPriorities(seed);
+        this.comparator = Comparator
+                // 1차: recruitmentStatus는 기존 enum의 우선순위로 정렬
+                .comparingInt((ClubSearchResult club) -> ClubRecruitmentStatus.getPriorityFromString(club.recruitmentStatus()))
+                // 2차: category는 seed 로 섞은 우선순위로 정렬
+                .thenComparingInt(this::categoryPriority)
+                // 3차: 이름순, 이름이 같으면 id 로 순서를 고정
+                .thenComparing(ClubSearchResult::name, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(ClubSearchResult::id, Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+
+    public static ClubSearchOrder of(long seed) {
+        return new ClubSearchOrder(seed);
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    public Comparator<ClubSearchResult> comparator() {
+        return comparator;
+    }
+
+    private int categoryPriority(ClubSearchResult club) {
+        if (club.category() == null) {
+            return Integer.MAX_VALUE;
+        }
+        return categoryPriorities.getOrDefault(club.category().toUpperCase(), Integer.MAX_VALUE);
+    }
+
+    private static Map<String, Integer> shuffledPriorities(long seed) {
+        List<ClubCategory> categories = new ArrayList<>(Arrays.asList(ClubCategory.values()));
+        Collections.shuffle(categories, new Random(seed));
+
+        Map<String, Integer> priorities = new HashMap<>();
+        for (int i = 0; i < categories.size(); i++) {
+            priorities.put(categories.get(i).name(), i);
+        }
+        return priorities;
+    }
+}
@@ -0,0 +1,33 @@
+package moadong.club.search;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import moadong.club.payload.dto.ClubSearchResult;
+
+/**
+ * 검색 결과 한 페이지.
+ *
+ * @param totalCount 커서와 관계없이 조건에 맞는 전체 동아리 수
+ * @param hasNext    이 페이지 뒤에 동아리가 더 남아 있는지 여부
+ */
+public record ClubSearchPage(
+        List<ClubSearchResult> clubs,
+        int totalCount,
+        boolean hasNext
+) {
+
+    /**
+     * 이미 order 로 정렬된 전체 결과에서 after 다음 size 개를 잘라 냅니다.
+     */
+    public static ClubSearchPage slice(List<ClubSearchResult> sorted, Comparator<ClubSearchResult> order,
+                                       ClubSearchResult after, int size) {
+        int from = 0;
+        if (after != null) {
+            int index = Collections.binarySearch(sorted, after, order);
+            from = index >= 0 ? index + 1 : -index - 1;
+        }
+        int to = Math.min(sorted.size(), from + size);
+        return new ClubSearchPage(List.copyOf(sorted.subList(from, to)), sorted.size(), to < sorted.size());
+    }
+}
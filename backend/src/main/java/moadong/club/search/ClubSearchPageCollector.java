@@ -0,0 +1,54 @@
+package moadong.club.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import moadong.club.payload.dto.ClubSearchResult;
+
+/**
+ * 전체 결과를 정렬하지 않고 after 다음의 상위 size 개만 고르는 수집기.
+ * 크기가 size 로 제한된 최대 힙을 유지하므로 n 개를 받아도 O(n log size) 이며 메모리는 size 에 비례합니다.
+ */
+public class ClubSearchPageCollector implements Consumer<ClubSearchResult> {
+
+    private final Comparator<ClubSearchResult> order;
+    private final ClubSearchResult after;
+    private final int size;
+    private final PriorityQueue<ClubSearchResult> heap;
+    private int totalCount;
+    private int remainCount;
+
+    /**
+     * @param after 이전 페이지의 마지막 동아리. 첫 페이지면 null
+     */
+    public ClubSearchPageCollector(Comparator<ClubSearchResult> order, ClubSearchResult after, int size) {
+        this.order = order;
+        this.after = after;
+        this.size = size;
+        // 힙의 top 이 현재까지 고른 것 중 가장 뒤에 오는 동아리가 되도록 역순
+        this.heap = new PriorityQueue<>(size + 1, order.reversed());
+    }
+
+    @Override
+    public void accept(ClubSearchResult club) {
+        totalCount++;
+        if (after != null && order.compare(club, after) <= 0) {
+            return;
+        }
+        remainCount++;
+        if (heap.size() < size) {
+            heap.add(club);
+        } else if (order.compare(club, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(club);
+        }
+    }
+
+    public ClubSearchPage page() {
+        List<ClubSearchResult> clubs = new ArrayList<>(heap);
+        clubs.sort(order);
+        return new ClubSearchPage(clubs, totalCount, remainCount > clubs.size());
+    }
+}
@@ -0,0 +1,87 @@
+package moadong.club.search;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import moadong.club.payload.dto.ClubSearchResult;
+import moadong.global.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정렬까지 끝난 검색 결과 캐시. (검색 조건, 정렬 seed, 카탈로그 버전) 단위로 보관합니다.
+ * 카탈로그가 바뀌면 버전이 달라져 자연히 다른 키가 되고, 이전 버전 항목은 한꺼번에 비웁니다.
+ */
+@Component
+public class ClubSearchResultCache {
+
+    private final ClubSearchEngine clubSearchEngine;
+    private final LruCache<Key, List<ClubSearchResult>> cache;
+    private volatile long cachedCatalogVersion;
+
+    private record Key(String keyword, String recruitmentStatus, String division, String category,
+                       long seed, long catalogVersion) {
+    }
+
+    public ClubSearchResultCache(ClubSearchEngine clubSearchEngine, MeterRegistry meterRegistry,
+                                 @Value("${club.search.cache.max-entries:512}") int maxEntries) {
+        this.clubSearchEngine = clubSearchEngine;
+        this.cache = new LruCache<>(maxEntries);
+
+        Gauge.builder("club.search.cache.size", cache, LruCache::size).register(meterRegistry);
+        FunctionCounter.builder("club.search.cache.requests", cache, LruCache::hitCount)
+                .tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("club.search.cache.requests", cache, LruCache::missCount)
+                .tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * order 로 정렬된 전체 검색 결과(수정 불가)를 반환합니다. 카탈로그가 준비되기 전에는 캐시하지 않습니다.
+     */
+    public List<ClubSearchResult> sorted(String keyword, String recruitmentStatus, String division, String category,
+                                         ClubSearchOrder order) {
+        long catalogVersion = clubSearchEngine.catalogVersion();
+        if (catalogVersion == 0) {
+            return sort(keyword, recruitmentStatus, division, category, order);
+        }
+        if (catalogVersion != cachedCatalogVersion) {
+            cache.clear();
+            cachedCatalogVersion = catalogVersion;
+        }
+
+        Key key = key(keyword, recruitmentStatus, division, category, order, catalogVersion);
+        return cache.computeIfAbsent(key, k -> sort(k.keyword(), recruitmentStatus, division, category, order));
+    }
+
+    /**
+     * 이미 캐시된 정렬 결과만 반환하고, 없으면 null 을 반환합니다.
+     */
+    public List<ClubSearchResult> cached(String keyword, String recruitmentStatus, String division, String category,
+                                         ClubSearchOrder order) {
+        long catalogVersion = clubSearchEngine.catalogVersion();
+        if (catalogVersion == 0 || catalogVersion != cachedCatalogVersion) {
+            return null;
+        }
+        return cache.get(key(keyword, recruitmentStatus, division, category, order, catalogVersion));
+    }
+
+    private static Key key(String keyword, String recruitmentStatus, String division, String category,
+                           ClubSearchOrder order, long catalogVersion) {
+        return new Key(normalize(keyword), recruitmentStatus, division, category, order.seed(), catalogVersion);
+    }
+
+    private static String normalize(String keyword) {
+        return keyword == null ? "" : keyword;
+    }
+
+    private List<ClubSearchResult> sort(String keyword, String recruitmentStatus, String division, String category,
+                                        ClubSearchOrder order) {
+        List<ClubSearchResult> result = new ArrayList<>(
+                clubSearchEngine.search(keyword, recruitmentStatus, division, category));
+        result.sort(order.comparator());
+        return Collections.unmodifiableList(result);
+    }
+}
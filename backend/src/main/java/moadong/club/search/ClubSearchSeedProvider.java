@@ -0,0 +1,34 @@
+package moadong.club.search;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 결과 카테고리 순서를 정하는 seed.
+ * 요청마다 섞는 대신 일정 주기(기본 1시간)마다 바뀌는 seed 를 써서, 같은 주기 안에서는 모든 노드가 같은 순서를 내려주고
+ * 정렬 결과를 캐시할 수 있게 합니다. 세션 토큰을 넘기면 그 세션 동안 고정된 순서를 사용합니다.
+ */
+@Component
+public class ClubSearchSeedProvider {
+
+    private final long rotationMillis;
+
+    public ClubSearchSeedProvider(
+            @Value("${club.search.order.rotation-interval:1h}") Duration rotationInterval) {
+        this.rotationMillis = Math.max(1, rotationInterval.toMillis());
+    }
+
+    public long seed(String sessionToken) {
+        if (sessionToken != null && !sessionToken.isBlank()) {
+            return mix(sessionToken.hashCode() * 31L + sessionToken.length());
+        }
+        return mix(System.currentTimeMillis() / rotationMillis);
+    }
+
+    // 인접한 값(연속된 주기)에서도 전혀 다른 순서가 나오도록 섞음
+    private static long mix(long value) {
+        return new SplittableRandom(value).nextLong();
+    }
+}
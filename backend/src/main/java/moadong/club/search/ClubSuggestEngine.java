@@ -0,0 +1,135 @@
+package moadong.club.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import moadong.club.enums.ClubSuggestType;
+import moadong.club.payload.dto.ClubSearchResult;
+import moadong.club.payload.dto.ClubSuggestResult;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색어 자동완성용 메모리 트라이.
+ * 동아리 이름과 태그를 자모 분해 키와 초성 키로 각각 등록해 "봉ㅅ", "ㅂㅅ" 입력에도 후보를 찾습니다.
+ * 동아리별로 등록한 키를 기억해 두었다가 저장될 때 해당 동아리 키만 교체합니다.
+ */
+@Component
+public class ClubSuggestEngine {
+
+    public static final int MAX_SIZE = 20;
+
+    // 지나치게 긴 이름이 트라이를 키우지 않도록 키 길이를 제한
+    private static final int MAX_KEY_LENGTH = 60;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, List<TrieEntry>> entriesByClub = new HashMap<>();
+    private RadixTrie<ClubSuggestResult> trie = new RadixTrie<>();
+
+    private record TrieEntry(String key, ClubSuggestResult value) {
+    }
+
+    public void rebuild(Collection<ClubSearchDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            trie = new RadixTrie<>();
+            entriesByClub.clear();
+            documents.forEach(this::register);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void update(ClubSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            unregister(document.id());
+            register(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String clubId) {
+        lock.writeLock().lock();
+        try {
+            unregister(clubId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<ClubSuggestResult> suggest(String keyword, int size) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        List<String> prefixes = HangulTokenizer.searchKeys(keyword.trim());
+
+        List<ClubSuggestResult> found = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            // 같은 태그가 여러 동아리에 있을 수 있어 여유 있게 뽑은 뒤 중복을 제거
+            for (String prefix : prefixes) {
+                found.addAll(trie.findByPrefix(prefix, limit * 4));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Set<ClubSuggestResult> suggestions = new LinkedHashSet<>();
+        for (ClubSuggestResult result : found) {
+            suggestions.add(result.type() == ClubSuggestType.TAG
+                    ? new ClubSuggestResult(result.keyword(), ClubSuggestType.TAG, null)
+                    : result);
+            if (suggestions.size() >= limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(suggestions);
+    }
+
+    private void register(ClubSearchDocument document) {
+        ClubSearchResult club = document.result();
+        List<TrieEntry> entries = new ArrayList<>();
+
+        addEntries(entries, club.name(), new ClubSuggestResult(club.name(), ClubSuggestType.NAME, club.id()));
+        if (club.tags() != null) {
+            for (String tag : club.tags()) {
+                addEntries(entries, tag, new ClubSuggestResult(tag, ClubSuggestType.TAG, club.id()));
+            }
+        }
+
+        entries.forEach(entry -> trie.put(entry.key(), entry.value()));
+        entriesByClub.put(document.id(), entries);
+    }
+
+    private void unregister(String clubId) {
+        List<TrieEntry> entries = entriesByClub.remove(clubId);
+        if (entries != null) {
+            entries.forEach(entry -> trie.remove(entry.key(), entry.value()));
+        }
+    }
+
+    private static void addEntries(List<TrieEntry> entries, String text, ClubSuggestResult value) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        String trimmed = text.trim();
+        String jamoKey = limit(HangulTokenizer.searchKey(trimmed));
+        // 초성 입력도 같은 형식으로 들어오므로 초성 키에도 음절 경계를 표시
+        String choseongKey = limit(HangulTokenizer.searchKey(HangulTokenizer.choseong(trimmed)));
+        entries.add(new TrieEntry(jamoKey, value));
+        if (!choseongKey.equals(jamoKey)) {
+            entries.add(new TrieEntry(choseongKey, value));
+        }
+    }
+
+    private static String limit(String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+}
@@ -0,0 +1,172 @@
+package moadong.club.search;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한글 검색어 처리를 위한 토크나이저.
+ * 완성형 음절을 호환 자모로 분해해 "봉ㅅ" 같은 입력 중간 상태도 부분 일치로 찾을 수 있게 하고,
+ * 초성만 모은 키로 "ㅂㅅ" → "봉사" 같은 초성 검색을 지원합니다.
+ * 겹모음/겹받침은 키보드 입력 순서대로 풀어서 분해합니다. (ㅘ → ㅗㅏ, ㄺ → ㄹㄱ)
+ * 검색 키는 음절마다 경계 표시를 넣어, 완성된 음절끼리는 음절을 넘어 일치하지 않게 합니다.
+ * 입력 중인 마지막 음절의 받침만은 다음 음절의 초성이 될 수 있으므로 경계를 넘어 일치시킵니다. ("갑" → "가방")
+ */
+public final class HangulTokenizer {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 단독으로 입력된 겹자모 (호환 자모 영역)
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO_DECOMPOSED = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    // 검색 키에서 음절(한글이 아닌 문자는 한 글자)의 시작을 표시
+    private static final char SYLLABLE_MARK = '\u0001';
+    private static final char VOWEL_BEGIN = 'ㅏ';
+    private static final char VOWEL_END = 'ㅣ';
+
+    private HangulTokenizer() {
+    }
+
+    /**
+     * 문자열을 소문자화하고 한글 음절을 자모 단위로 분해합니다. 한글이 아닌 문자는 그대로 둡니다.
+     */
+    public static String decompose(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder jamo = new StringBuilder(lower.length() * 3);
+        for (int i = 0; i < lower.length(); i++) {
+            appendJamo(jamo, lower.charAt(i));
+        }
+        return jamo.toString();
+    }
+
+    /**
+     * 음절마다 앞에 경계 표시를 넣어 자모로 분해한 검색 키를 만듭니다. 색인할 문서 쪽에 씁니다.
+     * 단독으로 입력된 모음은 앞 자음과 한 음절로 봅니다.
+     */
+    public static String searchKey(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder key = new StringBuilder(lower.length() * 4);
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (!isVowel(c)) {
+                key.append(SYLLABLE_MARK);
+            }
+            appendJamo(key, c);
+        }
+        return key.toString();
+    }
+
+    /**
+     * 검색어로 찾을 검색 키 후보를 만듭니다. 이 중 하나라도 문서의 {@link #searchKey} 에 포함되면 일치합니다.
+     * 첫 후보는 검색어를 그대로 분해한 키이고, 마지막 음절에 받침이 있으면 받침(겹받침은 뒤 자모)을
+     * 다음 음절의 초성으로 옮긴 키를 더합니다. ("갑" → "가방", "닭" → "달기", "봉ㅅ" → "봉사")
+     */
+    public static List<String> searchKeys(String keyword) {
+        String key = searchKey(keyword);
+        if (key.isEmpty()) {
+            return List.of(key);
+        }
+        char last = keyword.charAt(keyword.length() - 1);
+        if (!isSyllable(last) || (last - SYLLABLE_BEGIN) % JONG_COUNT == 0) {
+            return List.of(key);
+        }
+        // 받침의 마지막 자모 앞에 경계를 넣음 (ㅂ → |ㅂ, ㄹㄱ → ㄹ|ㄱ)
+        String carried = key.substring(0, key.length() - 1) + SYLLABLE_MARK + key.charAt(key.length() - 1);
+        return List.of(key, carried);
+    }
+
+    /**
+     * 한글 음절을 초성으로 바꾼 키를 만듭니다. 한글이 아닌 문자는 소문자로 그대로 둡니다.
+     */
+    public static String choseong(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder key = new StringBuilder(lower.length());
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            key.append(isSyllable(c) ? CHO.charAt((c - SYLLABLE_BEGIN) / (JUNG_COUNT * JONG_COUNT)) : c);
+        }
+        return key.toString();
+    }
+
+    /**
+     * 공백을 제외한 모든 문자가 초성 자음인지 확인합니다. (예: "ㅂㅅ")
+     */
+    public static boolean isChoseongOnly(String text) {
+        if (text == null || text.isBlank()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c) && CHO.indexOf(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 1 ~ maxSize 길이의 모든 n-gram 을 만듭니다.
+     */
+    public static Set<String> ngrams(String text, int maxSize) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            for (int size = 1; size <= maxSize && i + size <= text.length(); size++) {
+                grams.add(text.substring(i, i + size));
+            }
+        }
+        return grams;
+    }
+
+    private static void appendJamo(StringBuilder jamo, char c) {
+        if (isSyllable(c)) {
+            int offset = c - SYLLABLE_BEGIN;
+            jamo.append(CHO.charAt(offset / (JUNG_COUNT * JONG_COUNT)))
+                    .append(JUNG[(offset / JONG_COUNT) % JUNG_COUNT])
+                    .append(JONG[offset % JONG_COUNT]);
+            return;
+        }
+        int compound = COMPOUND_JAMO.indexOf(c);
+        if (compound >= 0) {
+            jamo.append(COMPOUND_JAMO_DECOMPOSED[compound]);
+            return;
+        }
+        jamo.append(c);
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    private static boolean isVowel(char c) {
+        return c >= VOWEL_BEGIN && c <= VOWEL_END;
+    }
+}
@@ -0,0 +1,174 @@
+package moadong.club.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 간선에 문자열을 저장하는 압축 접두사 트리.
+ * 공통 접두사를 하나의 간선으로 합치고, 삭제 시 빈 노드를 정리/병합해 메모리를 키 개수에 비례하게 유지합니다.
+ * 동기화는 호출하는 쪽에서 책임집니다.
+ */
+public class RadixTrie<V> {
+
+    private static final Comparator<Visit<?>> VISIT_ORDER = Comparator
+            .comparingInt((Visit<?> visit) -> visit.suffix().length())
+            .thenComparing(Visit::suffix);
+
+    private final Node<V> root = new Node<>("");
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public void put(String key, V value) {
+        Node<V> node = root;
+        int index = 0;
+        while (index < key.length()) {
+            Node<V> child = node.children.get(key.charAt(index));
+            if (child == null) {
+                Node<V> leaf = new Node<>(key.substring(index));
+                node.children.put(key.charAt(index), leaf);
+                node = leaf;
+                index = key.length();
+                break;
+            }
+
+            int common = commonPrefixLength(child.label, key, index);
+            if (common < child.label.length()) {
+                // 간선 중간에서 갈라지면 간선을 둘로 나눔
+                Node<V> middle = new Node<>(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children.put(child.label.charAt(0), child);
+                node.children.put(middle.label.charAt(0), middle);
+                child = middle;
+            }
+            node = child;
+            index += common;
+        }
+
+        if (node.values.add(value)) {
+            size++;
+        }
+    }
+
+    public void remove(String key, V value) {
+        Deque<Node<V>> path = new ArrayDeque<>();
+        Node<V> node = root;
+        int index = 0;
+        while (index < key.length()) {
+            Node<V> child = node.children.get(key.charAt(index));
+            if (child == null || !key.startsWith(child.label, index)) {
+                return;
+            }
+            path.push(node);
+            node = child;
+            index += child.label.length();
+        }
+
+        if (!node.values.remove(value)) {
+            return;
+        }
+        size--;
+
+        // 값도 자식도 없는 노드는 지우고, 자식이 하나뿐인 중간 노드는 자식과 합침
+        while (!path.isEmpty()) {
+            Node<V> parent = path.pop();
+            if (node.values.isEmpty() && node.children.isEmpty()) {
+                parent.children.remove(node.label.charAt(0));
+            } else if (node.values.isEmpty() && node.children.size() == 1) {
+                Node<V> only = node.children.values().iterator().next();
+                only.label = node.label + only.label;
+                parent.children.put(only.label.charAt(0), only);
+                break;
+            } else {
+                break;
+            }
+            node = parent;
+            if (node == root) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * prefix 로 시작하는 키의 값을 짧은 키부터 최대 limit 개 반환합니다. 길이가 같으면 사전순입니다.
+     */
+    public List<V> findByPrefix(String prefix, int limit) {
+        Node<V> start = findPrefixNode(prefix);
+        if (start == null || limit <= 0) {
+            return List.of();
+        }
+
+        // 간선 길이는 0 보다 크므로 키 길이 순으로 꺼내면 자식은 항상 부모보다 뒤에 나옴
+        Set<V> found = new LinkedHashSet<>();
+        PriorityQueue<Visit<V>> queue = new PriorityQueue<>(VISIT_ORDER);
+        queue.add(new Visit<>(start, ""));
+        while (!queue.isEmpty() && found.size() < limit) {
+            Visit<V> visit = queue.poll();
+            for (V value : visit.node().values) {
+                found.add(value);
+                if (found.size() >= limit) {
+                    break;
+                }
+            }
+            for (Node<V> child : visit.node().children.values()) {
+                queue.add(new Visit<>(child, visit.suffix() + child.label));
+            }
+        }
+        return new ArrayList<>(found);
+    }
+
+    private Node<V> findPrefixNode(String prefix) {
+        Node<V> node = root;
+        int index = 0;
+        while (index < prefix.length()) {
+            Node<V> child = node.children.get(prefix.charAt(index));
+            if (child == null) {
+                return null;
+            }
+            int common = commonPrefixLength(child.label, prefix, index);
+            if (index + common == prefix.length()) {
+                // prefix 가 간선 중간에서 끝나는 경우
+                return child;
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            node = child;
+            index += common;
+        }
+        return node;
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int length = 0;
+        while (length < max && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    // suffix 는 탐색을 시작한 노드 아래의 키. 시작 노드까지의 키는 모든 결과가 같으므로 비교에서 뺌
+    private record Visit<V>(Node<V> node, String suffix) {
+    }
+
+    private static final class Node<V> {
+        private String label;
+        private final Map<Character, Node<V>> children = new TreeMap<>();
+        private final Set<V> values = new LinkedHashSet<>();
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package moadong.club.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * 메모리 풀에서 중복 없이 무작위로 뽑는 샘플러. Mongo 의 $sample 을 대신합니다.
+ * Floyd 알고리즘으로 인덱스만 뽑기 때문에 풀 크기와 무관하게 뽑는 개수에 비례한 비용만 듭니다.
+ */
+public final class RandomSampler {
+
+    private RandomSampler() {
+    }
+
+    /**
+     * pool 에서 accept 를 만족하는 원소를 최대 count 개 무작위 순서로 뽑습니다.
+     * 거절될 수 있는 원소 수(rejectable)만큼 더 뽑아 두어, 조건을 만족하는 원소가 충분하면 항상 count 개를 채웁니다.
+     */
+    public static <T> List<T> sample(List<T> pool, int count, int rejectable, Predicate<T> accept) {
+        if (pool.isEmpty() || count <= 0) {
+            return List.of();
+        }
+        int draw = Math.min(pool.size(), count + Math.max(rejectable, 0));
+        List<T> sampled = new ArrayList<>(count);
+        for (int index : distinctIndexes(pool.size(), draw)) {
+            T candidate = pool.get(index);
+            if (accept.test(candidate)) {
+                sampled.add(candidate);
+                if (sampled.size() >= count) {
+                    break;
+                }
+            }
+        }
+        return sampled;
+    }
+
+    // [0, bound) 에서 서로 다른 인덱스 count 개를 무작위 순서로 반환
+    static List<Integer> distinctIndexes(int bound, int count) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Set<Integer> chosen = new HashSet<>(count * 2);
+        List<Integer> indexes = new ArrayList<>(count);
+        for (int j = bound - count; j < bound; j++) {
+            int candidate = random.nextInt(j + 1);
+            if (!chosen.add(candidate)) {
+                // 이미 뽑힌 인덱스면 j 를 대신 선택 (j 는 아직 뽑힐 수 없었던 값)
+                candidate = j;
+                chosen.add(j);
+            }
+            indexes.add(candidate);
+        }
+        // Floyd 알고리즘은 집합만 균등하므로 순서는 따로 섞음
+        Collections.shuffle(indexes, random);
+        return indexes;
+    }
+}
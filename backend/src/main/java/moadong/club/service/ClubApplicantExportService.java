@@ -0,0 +1,127 @@
+package moadong.club.service;
+
+import lombok.AllArgsConstructor;
+import moadong.club.entity.ClubApplicant;
+import moadong.club.entity.ClubApplicationForm;
+import moadong.club.entity.ClubApplicationFormQuestion;
+import moadong.club.entity.ClubQuestionAnswer;
+import moadong.club.payload.dto.ClubApplicantsResult;
+import moadong.club.repository.ClubApplicationFormsRepository;
+import moadong.global.exception.ErrorCode;
+import moadong.global.exception.RestApiException;
+import moadong.global.util.AESCipher;
+import moadong.user.payload.CustomUserDetails;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 지원자 목록을 CSV 로 내보냅니다.
+ * Mongo 커서로 지원자를 읽으면서 배치 단위로 복호화해 바로 출력하므로, 지원자 수와 관계없이 메모리 사용량이 일정합니다.
+ */
+@Service
+@AllArgsConstructor
+public class ClubApplicantExportService {
+
+    private static final int BATCH_SIZE = 200;
+    // 엑셀에서 UTF-8 CSV 를 한글이 깨지지 않게 열도록 BOM 을 붙임
+    private static final char BOM = '\uFEFF';
+    private static final DateTimeFormatter CREATED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final ClubApplicationFormsRepository clubApplicationFormsRepository;
+    private final MongoTemplate mongoTemplate;
+    private final AESCipher cipher;
+
+    public ClubApplicationForm getExportForm(String applicationFormId, CustomUserDetails user) {
+        return clubApplicationFormsRepository.findByClubIdAndId(user.getClubId(), applicationFormId)
+                .orElseThrow(() -> new RestApiException(ErrorCode.APPLICATION_NOT_FOUND));
+    }
+
+    public void writeApplicantsCsv(ClubApplicationForm applicationForm, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        List<ClubApplicationFormQuestion> questions = applicationForm.getQuestions();
+
+        writer.write(BOM);
+        List<String> header = new ArrayList<>(List.of("지원자 ID", "상태", "메모", "제출일시"));
+        questions.forEach(question -> header.add(question.getTitle()));
+        writeRow(writer, header);
+
+        Query query = Query.query(Criteria.where("formId").is(applicationForm.getId()))
+                .with(Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("_id")))
+                .cursorBatchSize(BATCH_SIZE);
+
+        try (Stream<ClubApplicant> applicants = mongoTemplate.stream(query, ClubApplicant.class)) {
+            List<ClubApplicant> batch = new ArrayList<>(BATCH_SIZE);
+            for (ClubApplicant applicant : (Iterable<ClubApplicant>) applicants::iterator) {
+                batch.add(applicant);
+                if (batch.size() == BATCH_SIZE) {
+                    writeBatch(writer, questions, batch);
+                    batch.clear();
+                }
+            }
+            writeBatch(writer, questions, batch);
+        }
+        writer.flush();
+    }
+
+    private void writeBatch(Writer writer, List<ClubApplicationFormQuestion> questions, List<ClubApplicant> batch)
+            throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        for (ClubApplicantsResult applicant : ClubApplicantsResult.ofAll(batch, cipher)) {
+            Map<Long, String> answers = new HashMap<>();
+            for (ClubQuestionAnswer answer : applicant.answers()) {
+                answers.put(answer.getId(), answer.getValue());
+            }
+
+            List<String> row = new ArrayList<>(questions.size() + 4);
+            row.add(applicant.id());
+            row.add(applicant.status().name());
+            row.add(applicant.memo());
+            row.add(applicant.createdAt() == null ? "" : applicant.createdAt().format(CREATED_AT_FORMAT));
+            // 질문 순서대로 열을 맞추고, 답하지 않은 질문은 빈 칸
+            questions.forEach(question -> row.add(answers.getOrDefault(question.getId(), "")));
+            writeRow(writer, row);
+        }
+        // 배치마다 내보내 클라이언트가 바로 받기 시작하도록 함
+        writer.flush();
+    }
+
+    private static void writeRow(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escape(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        // 스프레드시트에서 수식으로 실행되지 않도록 수식 시작 문자 앞에 ' 를 붙임
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            value = "'" + value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,36 @@
+package moadong.club.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import moadong.club.repository.ClubApplicantsRepositoryCustom;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * 마감된 지원서 양식의 지원자 전체 삭제를 백그라운드에서 나누어 수행합니다.
+ * 단일 스레드 실행기에서 순서대로 처리하므로, 같은 양식에 대한 중복 요청은 이미 비어 있는 양식을 한 번 더 확인하고 끝납니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClubApplicantPurgeService {
+
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private final ClubApplicantsRepositoryCustom clubApplicantsRepositoryCustom;
+
+    @Async("applicantPurgeAsync")
+    public void purgeApplicants(String applicationFormId) {
+        long deleted = 0;
+        try {
+            long batch;
+            do {
+                batch = clubApplicantsRepositoryCustom.deleteBatchByFormId(applicationFormId, PURGE_BATCH_SIZE);
+                deleted += batch;
+            } while (batch > 0);
+            log.info("지원자 전체 삭제 완료: formId={}, deleted={}", applicationFormId, deleted);
+        } catch (RuntimeException e) {
+            log.error("지원자 전체 삭제 실패: formId={}, deleted={}", applicationFormId, deleted, e);
+        }
+    }
+}
@@ -2,20 +2,28 @@ package moadong.club.service;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import moadong.club.apply.ClubApplicationFormCache;
 import moadong.club.entity.*;
+import moadong.club.enums.ApplicationFormStatus;
 import moadong.club.enums.SemesterTerm;
 import moadong.club.payload.dto.ApplicantStatusEvent;
+import moadong.club.payload.dto.ClubApplicantStatusCounts;
 import moadong.club.payload.dto.ClubApplicantsResult;
 import moadong.club.payload.request.*;
+import moadong.club.payload.response.ClubApplicantPageResponse;
 import moadong.club.payload.response.ClubApplicationFormsResponse;
 import moadong.club.payload.response.ClubApplyInfoResponse;
 import moadong.club.repository.ClubApplicantsRepository;
+import moadong.club.repository.ClubApplicantsRepositoryCustom;
 import moadong.club.repository.ClubApplicationFormsRepository;
 import moadong.club.repository.ClubApplicationFormsRepositoryCustom;
 import moadong.global.exception.ErrorCode;
 import moadong.global.exception.RestApiException;
 import moadong.global.util.AESCipher;
 import moadong.user.payload.CustomUserDetails;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
@@ -38,6 +46,9 @@ public class ClubApplyAdminService {
     private final ClubApplicantsRepository clubApplicantsRepository;
     private final AESCipher cipher;
     private final ClubApplicationFormsRepositoryCustom clubApplicationFormsRepositoryCustom;
+    private final ClubApplicantsRepositoryCustom clubApplicantsRepositoryCustom;
+    private final ClubApplicantPurgeService clubApplicantPurgeService;
+    private final ClubApplicationFormCache clubApplicationFormCache;
 
     // SSE 연결 관리
     private final Map<String, SseEmitter> sseConnections = new ConcurrentHashMap<>();
@@ -45,6 +56,11 @@ public class ClubApplyAdminService {
     // SSE Emitter 타임아웃 (5분)
     private static final long SSE_EMITTER_TIME_OUT = 300000L;
 
+    private static final int DEFAULT_APPLICANT_PAGE_SIZE = 20;
+    private static final int MAX_APPLICANT_PAGE_SIZE = 100;
+    // 제출 순서대로, 같은 시각이면 id 순으로 고정
+    private static final Sort APPLICANT_PAGE_SORT = Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("_id"));
+
     private record OptionItem(int year, SemesterTerm term) {
     }
 
@@ -99,6 +115,7 @@ public class ClubApplyAdminService {
 
         clubApplicationForm.updateEditedAt();
         clubApplicationFormsRepository.save(updateApplicationForm(clubApplicationForm, request));
+        clubApplicationFormCache.evict(clubApplicationForm.getClubId(), applicationFormId);
     }
 
     public void editClubApplicationQuestion(String applicationFormId, CustomUserDetails user, ClubApplicationFormEditRequest request) {
@@ -109,6 +126,7 @@ public class ClubApplyAdminService {
         clubApplicationForm.updateEditedAt();
 
         clubApplicationFormsRepository.save(clubApplicationForm);
+        clubApplicationFormCache.evict(clubApplicationForm.getClubId(), applicationFormId);
     }
 
     public ClubApplicationFormsResponse getClubApplicationForms(CustomUserDetails user) {
@@ -123,14 +141,12 @@ public class ClubApplyAdminService {
 
         List<ClubApplicant> submittedApplications = clubApplicantsRepository.findAllByFormId(applicationFormId);
 
-        List<ClubApplicantsResult> applications = new ArrayList<>();
         int reviewRequired = 0;
         int scheduledInterview = 0;
         int accepted = 0;
 
         for (ClubApplicant app : submittedApplications) {
-            ClubApplicant sortedApp = sortApplicationAnswers(applicationForm, app);
-            applications.add(ClubApplicantsResult.of(sortedApp, cipher));
+            sortApplicationAnswers(applicationForm, app);
 
             switch (app.getStatus()) {
                 case SUBMITTED -> reviewRequired++;
@@ -139,6 +155,9 @@ public class ClubApplyAdminService {
             }
         }
 
+        // 전체 답변을 한 번에 일괄 복호화
+        List<ClubApplicantsResult> applications = ClubApplicantsResult.ofAll(submittedApplications, cipher);
+
         return ClubApplyInfoResponse.builder()
                 .total(applications.size())
                 .reviewRequired(reviewRequired)
@@ -148,6 +167,52 @@ public class ClubApplyAdminService {
                 .build();
     }
 
+    public ClubApplicantPageResponse getClubApplicantPage(String applicationFormId, CustomUserDetails user, Integer page, Integer size) {
+        ClubApplicationForm applicationForm = clubApplicationFormsRepository.findByClubIdAndId(user.getClubId(), applicationFormId)
+                .orElseThrow(() -> new RestApiException(ErrorCode.APPLICATION_NOT_FOUND));
+
+        int pageNumber = Math.max(0, page == null ? 0 : page);
+        int pageSize = Math.max(1, Math.min(size == null ? DEFAULT_APPLICANT_PAGE_SIZE : size, MAX_APPLICANT_PAGE_SIZE));
+
+        // 현황은 DB 에서 집계하고, 답변 복호화는 현재 페이지 지원자에 대해서만 수행
+        ClubApplicantStatusCounts counts = clubApplicantsRepositoryCustom.countStatusesByFormId(applicationFormId);
+
+        Slice<ClubApplicant> applicantPage = clubApplicantsRepository.findPageByFormId(applicationFormId,
+                PageRequest.of(pageNumber, pageSize, APPLICANT_PAGE_SORT));
+
+        applicantPage.getContent().forEach(app -> sortApplicationAnswers(applicationForm, app));
+        List<ClubApplicantsResult> applications = ClubApplicantsResult.ofAll(applicantPage.getContent(), cipher);
+
+        return ClubApplicantPageResponse.builder()
+                .total(counts.total())
+                .reviewRequired(counts.reviewRequired())
+                .scheduledInterview(counts.scheduledInterview())
+                .accepted(counts.accepted())
+                .page(pageNumber)
+                .size(pageSize)
+                .hasNext(applicantPage.hasNext())
+                .applicants(applications)
+                .build();
+    }
+
+    public ClubApplicantStatusCounts getClubApplicantCounts(String applicationFormId, CustomUserDetails user) {
+        if (!clubApplicationFormsRepository.existsByClubIdAndId(user.getClubId(), applicationFormId)) {
+            throw new RestApiException(ErrorCode.APPLICATION_NOT_FOUND);
+        }
+        return clubApplicantsRepositoryCustom.countStatusesByFormId(applicationFormId);
+    }
+
+    public ClubApplicantsResult getClubApplicant(String applicationFormId, String applicantId, CustomUserDetails user) {
+        ClubApplicationForm applicationForm = clubApplicationFormsRepository.findByClubIdAndId(user.getClubId(), applicationFormId)
+                .orElseThrow(() -> new RestApiException(ErrorCode.APPLICATION_NOT_FOUND));
+
+        ClubApplicant applicant = clubApplicantsRepository.findByIdAndFormId(applicantId, applicationFormId)
+                .filter(app -> app.getStatus() != null)
+                .orElseThrow(() -> new RestApiException(ErrorCode.APPLICANT_NOT_FOUND));
+
+        return ClubApplicantsResult.of(sortApplicationAnswers(applicationForm, applicant), cipher);
+    }
+
     private ClubApplicant sortApplicationAnswers(ClubApplicationForm application, ClubApplicant app) {
         Map<Long, ClubQuestionAnswer> answerMap = app.getAnswers().stream()
                 .collect(Collectors.toMap(ClubQuestionAnswer::getId, answer -> answer));
@@ -169,20 +234,21 @@ public class ClubApplyAdminService {
                         Function.identity(), (prev, next) -> next));
 
         List<String> applicationIds = new ArrayList<>(requestMap.keySet());
-        List<ClubApplicant> application = clubApplicantsRepository.findAllByIdInAndFormId(applicationIds, applicationFormId);
-
-        if (application.size() != applicationIds.size()) {
+        // 지원서 본문은 읽지 않고 존재 여부만 확인
+        if (clubApplicantsRepository.countByIdInAndFormId(applicationIds, applicationFormId) != applicationIds.size()) {
             throw new RestApiException(ErrorCode.APPLICANT_NOT_FOUND);
         }
 
-        application.forEach(app -> {
-            ClubApplicantEditRequest editRequest = requestMap.get(app.getId());
-            app.updateMemo(editRequest.memo());
-            app.updateStatus(editRequest.status());
+        int matched = clubApplicantsRepositoryCustom.updateStatusAndMemo(applicationFormId, requestMap.values());
+        if (matched != applicationIds.size()) {
+            // 확인 직후 삭제된 지원자가 있는 경우
+            throw new RestApiException(ErrorCode.APPLICANT_NOT_FOUND);
+        }
 
+        requestMap.values().forEach(editRequest -> {
             // SSE 이벤트 발송
             ApplicantStatusEvent event = new ApplicantStatusEvent(
-                    app.getId(),
+                    editRequest.applicantId(),
                     editRequest.status(),
                     editRequest.memo(),
                     ZonedDateTime.now(ZoneId.of("Asia/Seoul")).toLocalDateTime(),
@@ -190,6 +256,11 @@ public class ClubApplyAdminService {
                     applicationFormId
             );
 
+            // 트랜잭션 안이면 커밋 후에, 아니면 갱신이 끝난 지금 바로 발송
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                CompletableFuture.runAsync(() -> sendStatusChangeEvent(clubId, applicationFormId, event));
+                return;
+            }
             TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
                 @Override
                 public void afterCommit() {
@@ -197,18 +268,26 @@ public class ClubApplyAdminService {
                 }
             });
         });
-
-        clubApplicantsRepository.saveAll(application);
     }
 
     public void deleteApplicant(String applicationFormId, ClubApplicantDeleteRequest request, CustomUserDetails user) {
-        List<ClubApplicant> applicants = clubApplicantsRepository.findAllByIdInAndFormId(request.applicantIds(), applicationFormId);
+        List<String> applicantIds = new ArrayList<>(new HashSet<>(request.applicantIds()));
 
-        if (applicants.size() != request.applicantIds().size()) {
+        // 없는 지원자가 하나라도 있으면 아무것도 지우지 않고, 모두 있으면 한 번의 deleteMany 로 삭제
+        if (clubApplicantsRepository.countByIdInAndFormId(applicantIds, applicationFormId) != applicantIds.size()) {
             throw new RestApiException(ErrorCode.APPLICANT_NOT_FOUND);
         }
+        clubApplicantsRepositoryCustom.deleteByIdsAndFormId(applicantIds, applicationFormId);
+    }
 
-        clubApplicantsRepository.deleteAll(applicants);
+    public void purgeApplicants(String applicationFormId, CustomUserDetails user) {
+        ClubApplicationForm applicationForm = clubApplicationFormsRepository.findByClubIdAndId(user.getClubId(), applicationFormId)
+                .orElseThrow(() -> new RestApiException(ErrorCode.APPLICATION_NOT_FOUND));
+
+        if (applicationForm.getStatus() == ApplicationFormStatus.ACTIVE) {
+            throw new RestApiException(ErrorCode.APPLICATION_NOT_CLOSED);
+        }
+        clubApplicantPurgeService.purgeApplicants(applicationFormId);
     }
 
     private ClubApplicationForm createApplicationForm(ClubApplicationForm clubApplicationForm, ClubApplicationFormCreateRequest request) {
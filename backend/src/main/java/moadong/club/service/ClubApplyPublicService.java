@@ -2,29 +2,35 @@ package moadong.club.service;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import moadong.club.apply.ClubApplicationFormCache;
+import moadong.club.apply.ClubApplicationValidationPlans;
+import moadong.club.apply.ClubApplySubmission;
+import moadong.club.apply.ClubApplySubmissionPersister;
 import moadong.club.entity.ClubApplicant;
 import moadong.club.entity.ClubApplicationForm;
-import moadong.club.entity.ClubApplicationFormQuestion;
 import moadong.club.entity.ClubQuestionAnswer;
-import moadong.club.enums.ClubApplicationQuestionType;
 import moadong.club.payload.dto.ClubActiveFormResult;
 import moadong.club.payload.dto.ClubActiveFormSlim;
 import moadong.club.payload.request.ClubApplyRequest;
 import moadong.club.payload.response.ClubActiveFormsResponse;
 import moadong.club.payload.response.ClubApplicationFormResponse;
+import moadong.club.payload.response.ClubApplyReceiptResponse;
 import moadong.club.repository.ClubApplicantsRepository;
 import moadong.club.repository.ClubApplicationFormsRepository;
-import moadong.club.summary.ApplicantIdMessagePublisher;
+import moadong.club.summary.ApplicantSummaryOutbox;
 import moadong.global.exception.ErrorCode;
 import moadong.global.exception.RestApiException;
 import moadong.global.payload.Response;
 import moadong.global.util.AESCipher;
+import org.bson.types.ObjectId;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
 @Service
 @AllArgsConstructor
@@ -33,7 +39,10 @@ public class ClubApplyPublicService {
     private final ClubApplicationFormsRepository clubApplicationFormsRepository;
     private final ClubApplicantsRepository clubApplicantsRepository;
     private final AESCipher cipher;
-    private final ApplicantIdMessagePublisher applicantIdMessagePublisher;
+    private final ClubApplicationValidationPlans validationPlans;
+    private final ClubApplicationFormCache clubApplicationFormCache;
+    private final ApplicantSummaryOutbox applicantSummaryOutbox;
+    private final ClubApplySubmissionPersister submissionPersister;
 
     public ClubActiveFormsResponse getActiveApplicationForms(String clubId) {
         List<ClubActiveFormSlim> forms = clubApplicationFormsRepository.findClubActiveFormsByClubId(clubId);
@@ -51,7 +60,7 @@ public class ClubApplyPublicService {
     }
 
     public ResponseEntity<?> getClubApplicationForm(String clubId, String applicationFormId) {
-        ClubApplicationForm clubApplicationForm = clubApplicationFormsRepository.findByClubIdAndId(clubId, applicationFormId).orElseThrow(() -> new RestApiException(ErrorCode.APPLICATION_NOT_FOUND));
+        ClubApplicationForm clubApplicationForm = clubApplicationFormCache.find(clubId, applicationFormId).orElseThrow(() -> new RestApiException(ErrorCode.APPLICATION_NOT_FOUND));
 
 
         ClubApplicationFormResponse clubApplicationFormResponse = ClubApplicationFormResponse.builder().title(clubApplicationForm.getTitle()).description(Optional.ofNullable(clubApplicationForm.getDescription()).orElse("")).questions(clubApplicationForm.getQuestions()).semesterYear(clubApplicationForm.getSemesterYear()).semesterTerm(clubApplicationForm.getSemesterTerm()).status(clubApplicationForm.getStatus()).build();
@@ -60,10 +69,54 @@ public class ClubApplyPublicService {
     }
 
     public void applyToClub(String clubId, String applicationFormId, ClubApplyRequest request) {
-        ClubApplicationForm clubApplicationForm = clubApplicationFormsRepository.findByClubIdAndId(clubId, applicationFormId).orElseThrow(() -> new RestApiException(ErrorCode.APPLICATION_NOT_FOUND));
+        ClubApplicationForm clubApplicationForm = clubApplicationFormCache.find(clubId, applicationFormId).orElseThrow(() -> new RestApiException(ErrorCode.APPLICATION_NOT_FOUND));
 
-        validateAnswers(request.questions(), clubApplicationForm);
+        validationPlans.planFor(clubApplicationForm).validate(request.questions());
 
+        // outbox 항목과 지원자를 같은 id 로 묶기 위해 저장 전에 id 를 정함
+        ClubApplicant applicant = ClubApplicant.builder().id(new ObjectId().toHexString()).formId(applicationFormId).answers(encryptAnswers(request)).build();
+
+        save(applicant);
+    }
+
+    public boolean isAsyncApplyEnabled() {
+        return submissionPersister.isEnabled();
+    }
+
+    /**
+     * 검증과 암호화까지만 요청 스레드에서 처리하고, 저널에 기록되면 접수 번호를 돌려줍니다.
+     * DB 저장과 요약 큐 발행은 저장 스레드가 모아서 처리합니다. 저장 대기열이 가득 찼거나 저널 기록에 실패하면 바로 저장합니다.
+     */
+    public ClubApplyReceiptResponse acceptApplication(String clubId, String applicationFormId, ClubApplyRequest request) {
+        ClubApplicationForm clubApplicationForm = clubApplicationFormCache.find(clubId, applicationFormId).orElseThrow(() -> new RestApiException(ErrorCode.APPLICATION_NOT_FOUND));
+
+        validationPlans.planFor(clubApplicationForm).validate(request.questions());
+
+        List<ClubQuestionAnswer> answers = encryptAnswers(request);
+        String receiptId = new ObjectId().toHexString();
+        LocalDateTime createdAt = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+
+        if (submissionPersister.canAccept()) {
+            ClubApplySubmission submission = new ClubApplySubmission(receiptId, applicationFormId,
+                    answers.stream().map(answer -> new ClubApplySubmission.Answer(answer.getId(), answer.getValue())).toList(),
+                    createdAt);
+            try {
+                submissionPersister.submit(submission);
+                return ClubApplyReceiptResponse.builder().receiptId(receiptId).build();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("지원서 저널 기록 대기 중 인터럽트, 바로 저장합니다. receiptId={}", receiptId);
+            } catch (ExecutionException | TimeoutException e) {
+                // 같은 id 로 저장하므로 저널에 뒤늦게 기록되더라도 중복 저장되지 않음
+                log.warn("지원서 저널 기록 실패, 바로 저장합니다. receiptId={}", receiptId, e);
+            }
+        }
+
+        save(ClubApplicant.builder().id(receiptId).formId(applicationFormId).answers(answers).createdAt(createdAt).build());
+        return ClubApplyReceiptResponse.builder().receiptId(receiptId).build();
+    }
+
+    private List<ClubQuestionAnswer> encryptAnswers(ClubApplyRequest request) {
         List<ClubQuestionAnswer> answers = new ArrayList<>();
 
         try {
@@ -75,52 +128,13 @@ public class ClubApplyPublicService {
             log.error("AES_CIPHER_ERROR", e);
             throw new RestApiException(ErrorCode.AES_CIPHER_ERROR);
         }
-
-        ClubApplicant applicant = ClubApplicant.builder().formId(applicationFormId).answers(answers).build();
-
-        clubApplicantsRepository.save(applicant);
-
-        applicantIdMessagePublisher.addApplicantIdToQueue(applicationFormId, applicant.getId());
+        return answers;
     }
 
-    private void validateAnswers(List<ClubApplyRequest.Answer> answers, ClubApplicationForm clubApplicationForm) {
-        // 미리 질문과 응답 id 만들어두기
-        Map<Long, ClubApplicationFormQuestion> questionMap = clubApplicationForm.getQuestions().stream().collect(Collectors.toMap(ClubApplicationFormQuestion::getId, Function.identity()));
+    // 요약 요청을 outbox 에 먼저 남기고 저장. 발행은 릴레이가 요청 스레드 밖에서 처리
+    private void save(ClubApplicant applicant) {
+        applicantSummaryOutbox.add(applicant.getFormId(), applicant.getId());
 
-        Set<Long> answerIds = answers.stream().map(ClubApplyRequest.Answer::id).collect(Collectors.toSet());
-
-        // 필수 질문이 누락되었는지 검증
-        for (ClubApplicationFormQuestion question : clubApplicationForm.getQuestions()) {
-            if (question.getOptions().getRequired() && !answerIds.contains(question.getId())) {
-                throw new RestApiException(ErrorCode.REQUIRED_QUESTION_MISSING);
-            }
-        }
-
-        // 답변 유효성 검증
-        for (ClubApplyRequest.Answer answer : answers) {
-            ClubApplicationFormQuestion question = questionMap.get(answer.id());
-
-            // 질문이 없을 경우 예외 처리
-            if (question == null) {
-                throw new RestApiException(ErrorCode.QUESTION_NOT_FOUND);
-            }
-
-            validateAnswerLength(answer.value(), question.getType());
-        }
-    }
-
-    private void validateAnswerLength(String value, ClubApplicationQuestionType type) {
-        switch (type) {
-            case SHORT_TEXT -> {
-                if (value.length() > 100) {
-                    throw new RestApiException(ErrorCode.SHORT_EXCEED_LENGTH);
-                }
-            }
-            case LONG_TEXT -> {
-                if (value.length() > 1000) {
-                    throw new RestApiException(ErrorCode.LONG_EXCEED_LENGTH);
-                }
-            }
-        }
+        clubApplicantsRepository.save(applicant);
     }
 }
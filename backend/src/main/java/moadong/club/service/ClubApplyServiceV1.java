@@ -2,14 +2,16 @@ package moadong.club.service;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import moadong.club.apply.ClubApplicationFormCache;
+import moadong.club.apply.ClubApplicationValidationPlans;
 import moadong.club.entity.*;
-import moadong.club.enums.ClubApplicationQuestionType;
 import moadong.club.payload.dto.ClubApplicantsResult;
 import moadong.club.payload.request.ClubApplicantDeleteRequest;
 import moadong.club.payload.request.ClubApplicantEditRequest;
 import moadong.club.payload.request.ClubApplyRequest;
 import moadong.club.payload.response.ClubApplyInfoResponse;
 import moadong.club.repository.ClubApplicantsRepository;
+import moadong.club.repository.ClubApplicantsRepositoryCustom;
 import moadong.club.repository.ClubApplicationFormsRepository;
 import moadong.club.repository.ClubRepository;
 import moadong.global.exception.ErrorCode;
@@ -29,13 +31,16 @@ public class ClubApplyServiceV1 {
     private final ClubRepository clubRepository;
     private final ClubApplicationFormsRepository clubApplicationFormsRepository;
     private final ClubApplicantsRepository clubApplicantsRepository;
+    private final ClubApplicantsRepositoryCustom clubApplicantsRepositoryCustom;
     private final AESCipher cipher;
+    private final ClubApplicationValidationPlans validationPlans;
+    private final ClubApplicationFormCache clubApplicationFormCache;
 
     public void applyToClub(String clubId, String applicationFormId, ClubApplyRequest request) {
-        ClubApplicationForm clubApplicationForm = clubApplicationFormsRepository.findByClubIdAndId(clubId, applicationFormId)
+        ClubApplicationForm clubApplicationForm = clubApplicationFormCache.find(clubId, applicationFormId)
                 .orElseThrow(() -> new RestApiException(ErrorCode.APPLICATION_NOT_FOUND));
 
-        validateAnswers(request.questions(), clubApplicationForm);
+        validationPlans.planFor(clubApplicationForm).validate(request.questions());
 
         List<ClubQuestionAnswer> answers = new ArrayList<>();
 
@@ -68,14 +73,12 @@ public class ClubApplyServiceV1 {
 
         List<ClubApplicant> submittedApplications = clubApplicantsRepository.findAllByFormId(applicationFormId);
 
-        List<ClubApplicantsResult> applications = new ArrayList<>();
         int reviewRequired = 0;
         int scheduledInterview = 0;
         int accepted = 0;
 
         for (ClubApplicant app : submittedApplications) {
-            ClubApplicant sortedApp = sortApplicationAnswers(applicationForm, app);
-            applications.add(ClubApplicantsResult.of(sortedApp, cipher));
+            sortApplicationAnswers(applicationForm, app);
 
             switch (app.getStatus()) {
                 case SUBMITTED -> reviewRequired++;
@@ -84,6 +87,9 @@ public class ClubApplyServiceV1 {
             }
         }
 
+        // 전체 답변을 한 번에 일괄 복호화
+        List<ClubApplicantsResult> applications = ClubApplicantsResult.ofAll(submittedApplications, cipher);
+
         return ClubApplyInfoResponse.builder()
                 .total(applications.size())
                 .reviewRequired(reviewRequired)
@@ -114,76 +120,25 @@ public class ClubApplyServiceV1 {
                         Function.identity(), (prev, next) -> next));
 
         List<String> applicationIds = new ArrayList<>(requestMap.keySet());
-        List<ClubApplicant> application = clubApplicantsRepository.findAllByIdInAndFormId(applicationIds, applicationFormId);
-
-        if (application.size() != applicationIds.size()) {
+        if (clubApplicantsRepository.countByIdInAndFormId(applicationIds, applicationFormId) != applicationIds.size()) {
             throw new RestApiException(ErrorCode.APPLICANT_NOT_FOUND);
         }
 
-        application.forEach(app -> {
-            ClubApplicantEditRequest editRequest = requestMap.get(app.getId());
-            app.updateMemo(editRequest.memo());
-            app.updateStatus(editRequest.status());
-        });
-
-        clubApplicantsRepository.saveAll(application);
+        if (clubApplicantsRepositoryCustom.updateStatusAndMemo(applicationFormId, requestMap.values()) != applicationIds.size()) {
+            throw new RestApiException(ErrorCode.APPLICANT_NOT_FOUND);
+        }
     }
 
     public void deleteApplicant(String clubId, String applicationFormId, ClubApplicantDeleteRequest request, CustomUserDetails user) {
         validateClubOwner(clubId, user);
 
-        List<ClubApplicant> applicants = clubApplicantsRepository.findAllByIdInAndFormId(request.applicantIds(), applicationFormId);
-
-        if (applicants.size() != request.applicantIds().size()) {
+        List<String> applicantIds = new ArrayList<>(new HashSet<>(request.applicantIds()));
+        if (clubApplicantsRepository.countByIdInAndFormId(applicantIds, applicationFormId) != applicantIds.size()) {
             throw new RestApiException(ErrorCode.APPLICANT_NOT_FOUND);
         }
-
-        clubApplicantsRepository.deleteAll(applicants);
-    }
-
-    private void validateAnswers(List<ClubApplyRequest.Answer> answers, ClubApplicationForm clubApplicationForm) {
-        // 미리 질문과 응답 id 만들어두기
-        Map<Long, ClubApplicationFormQuestion> questionMap = clubApplicationForm.getQuestions().stream()
-                .collect(Collectors.toMap(ClubApplicationFormQuestion::getId, Function.identity()));
-
-        Set<Long> answerIds = answers.stream()
-                .map(ClubApplyRequest.Answer::id)
-                .collect(Collectors.toSet());
-
-        // 필수 질문이 누락되었는지 검증
-        for (ClubApplicationFormQuestion question : clubApplicationForm.getQuestions()) {
-            if (question.getOptions().getRequired() && !answerIds.contains(question.getId())) {
-                throw new RestApiException(ErrorCode.REQUIRED_QUESTION_MISSING);
-            }
-        }
-
-        // 답변 유효성 검증
-        for (ClubApplyRequest.Answer answer : answers) {
-            ClubApplicationFormQuestion question = questionMap.get(answer.id());
-
-            // 질문이 없을 경우 예외 처리
-            if (question == null) {
-                throw new RestApiException(ErrorCode.QUESTION_NOT_FOUND);
-            }
-
-            validateAnswerLength(answer.value(), question.getType());
-        }
+        clubApplicantsRepositoryCustom.deleteByIdsAndFormId(applicantIds, applicationFormId);
     }
 
-    private void validateAnswerLength(String value, ClubApplicationQuestionType type) {
-        switch (type) {
-            case SHORT_TEXT -> {
-                if (value.length() > 100) {
-                    throw new RestApiException(ErrorCode.SHORT_EXCEED_LENGTH);
-                }
-            }
-            case LONG_TEXT -> {
-                if (value.length() > 1000) {
-                    throw new RestApiException(ErrorCode.LONG_EXCEED_LENGTH);
-                }
-            }
-        }
-    }
     private void validateClubOwner(String clubId, CustomUserDetails user) {
         Club club = clubRepository.findById(clubId)
                 .orElseThrow(() -> new RestApiException(ErrorCode.CLUB_NOT_FOUND));
@@ -3,14 +3,16 @@ package moadong.club.service;
 import lombok.AllArgsConstructor;
 import moadong.club.entity.Club;
 import moadong.club.enums.ClubRecruitmentStatus;
+import moadong.club.payload.dto.ClubDetailedPage;
 import moadong.club.payload.dto.ClubDetailedResult;
 import moadong.club.payload.dto.ClubSearchResult;
 import moadong.club.payload.request.ClubInfoRequest;
 import moadong.club.payload.request.ClubRecruitmentInfoUpdateRequest;
 import moadong.club.payload.response.ClubDetailedResponse;
 import moadong.club.repository.ClubRepository;
-import moadong.club.repository.ClubSearchRepository;
 import moadong.club.scheduler.RecruitStatusSchedulerManager;
+import moadong.club.search.ClubRecommendEngine;
+import moadong.club.search.ClubSearchEngine;
 import moadong.global.exception.ErrorCode;
 import moadong.global.exception.RestApiException;
 import moadong.global.util.ObjectIdConverter;
@@ -27,8 +29,9 @@ import java.util.List;
 public class ClubProfileService {
 
     private final ClubRepository clubRepository;
-    private final ClubSearchRepository clubSearchRepository;
+    private final ClubRecommendEngine clubRecommendEngine;
     private final RecruitStatusSchedulerManager recruitStatusSchedulerManager;
+    private final ClubSearchEngine clubSearchEngine;
 
     public void updateClubInfo(ClubInfoRequest request, CustomUserDetails user) {
         Club club = clubRepository.findClubByUserId(user.getId())
@@ -54,17 +57,27 @@ public class ClubProfileService {
         clubRepository.save(club);
     }
 
-    public ClubDetailedResponse getClubDetail(String clubId) {
+    public ClubDetailedPage getClubDetail(String clubId) {
         ObjectId objectId = ObjectIdConverter.convertString(clubId);
         Club club = clubRepository.findClubById(objectId)
                 .orElseThrow(() -> new RestApiException(ErrorCode.CLUB_NOT_FOUND));
 
-        List<ClubSearchResult> clubSearchResults = clubSearchRepository.searchRecommendClubs(club.getCategory(), clubId);
+        List<ClubSearchResult> clubSearchResults = clubRecommendEngine.recommend(club.getCategory(), clubId);
 
         ClubDetailedResult clubDetailedResult = ClubDetailedResult.of(
                 club,clubSearchResults
         );
-        return new ClubDetailedResponse(clubDetailedResult);
+        return new ClubDetailedPage(new ClubDetailedResponse(clubDetailedResult), clubDetailETag(club));
+    }
+
+    // 방금 읽은 동아리의 @Version 과, 추천 동아리를 뽑는 카탈로그의 내용 해시로 ETag 를 만듦.
+    // 추천 동아리는 요청마다 무작위로 뽑아 응답이 바이트 단위로 같지 않으므로 약한(W/) ETag 로 내려줌
+    private String clubDetailETag(Club club) {
+        String catalogTag = clubSearchEngine.catalogTag();
+        if (catalogTag == null || club.getVersion() == null) {
+            return null;
+        }
+        return "W/\"club-" + club.getId() + "-" + club.getVersion() + "-" + catalogTag + "\"";
     }
 
     public void updateRecruitmentStatus(String clubId, ClubRecruitmentStatus status){
@@ -73,5 +86,6 @@ public class ClubProfileService {
                 .orElseThrow(() -> new RestApiException(ErrorCode.CLUB_NOT_FOUND));
 
         club.updateRecruitmentStatus(status);
+        clubRepository.save(club);
     }
 }
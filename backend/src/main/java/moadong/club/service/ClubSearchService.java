@@ -1,63 +1,123 @@
 package moadong.club.service;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import lombok.AllArgsConstructor;
-import moadong.club.enums.ClubCategory;
-import moadong.club.enums.ClubRecruitmentStatus;
 import moadong.club.payload.dto.ClubSearchResult;
 import moadong.club.payload.response.ClubSearchResponse;
-import moadong.club.repository.ClubSearchRepository;
+import moadong.club.payload.response.ClubSuggestResponse;
+import moadong.club.search.ClubSearchCursor;
+import moadong.club.search.ClubSearchEngine;
+import moadong.club.search.ClubSearchOrder;
+import moadong.club.search.ClubSearchPage;
+import moadong.club.search.ClubSearchResultCache;
+import moadong.club.search.ClubSearchSeedProvider;
+import moadong.club.search.ClubSuggestEngine;
 import org.springframework.stereotype.Service;
-
-import static java.util.Arrays.*;
+import org.springframework.util.DigestUtils;
 
 @Service
 @AllArgsConstructor
 public class ClubSearchService {
 
-    private final ClubSearchRepository clubSearchRepository;
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final ClubSearchEngine clubSearchEngine;
+    private final ClubSuggestEngine clubSuggestEngine;
+    private final ClubSearchResultCache clubSearchResultCache;
+    private final ClubSearchSeedProvider clubSearchSeedProvider;
 
     public ClubSearchResponse searchClubsByKeyword(String keyword,
                                                    String recruitmentStatus,
                                                    String division,
                                                    String category
     ) {
-        List<ClubSearchResult> result = clubSearchRepository.searchClubsByKeyword(
+        return searchClubsByKeyword(keyword, recruitmentStatus, division, category, null);
+    }
+
+    /**
+     * 모집상태 → seed 로 섞은 카테고리 → 이름순으로 정렬한 전체 결과.
+     * seed 는 주기적으로 바뀌거나(세션 토큰이 없을 때) 세션마다 고정되므로 정렬 결과를 캐시에서 바로 내려줍니다.
+     */
+    public ClubSearchResponse searchClubsByKeyword(String keyword,
+                                                   String recruitmentStatus,
+                                                   String division,
+                                                   String category,
+                                                   String sessionToken
+    ) {
+        ClubSearchOrder order = ClubSearchOrder.of(clubSearchSeedProvider.seed(sessionToken));
+        List<ClubSearchResult> result = clubSearchResultCache.sorted(
                 keyword,
                 recruitmentStatus,
                 division,
-                category
+                category,
+                order
         );
-        // 정렬
-        // 1. ClubCategory Enum의 모든 값을 가져와 리스트로 만들고 순서를 랜덤하게 섞습니다.
-        List<ClubCategory> categories = new ArrayList<>(asList(ClubCategory.values()));
-        Collections.shuffle(categories);
-
-        // 2. 섞인 순서를 기반으로 Category에 대한 랜덤 우선순위 Map을 생성합니다.
-        Map<String, Integer> randomCategoryPriorities = new HashMap<>();
-        for (int i = 0; i < categories.size(); i++) {
-            randomCategoryPriorities.put(categories.get(i).name(), i);
-        }
-
-        result = result.stream()
-                .sorted(
-                        Comparator
-                                // 1차: recruitmentStatus는 기존 enum의 우선순위로 정렬
-                                .comparingInt((ClubSearchResult club) -> ClubRecruitmentStatus.getPriorityFromString(club.recruitmentStatus()))
-                                // 2차: category는 랜덤하게 생성된 우선순위로 정렬
-                                .thenComparingInt((ClubSearchResult club) ->
-                                        randomCategoryPriorities.getOrDefault(
-                                                club.category() != null ? club.category().toUpperCase() : null,
-                                                Integer.MAX_VALUE))
-                                // 3차: 이름순으로 정렬
-                                .thenComparing(ClubSearchResult::name)
-                )
-                .collect(Collectors.toList());
 
         return ClubSearchResponse.builder()
                 .clubs(result)
                 .totalCount(result.size())
                 .build();
     }
+
+    /**
+     * 커서 기반 페이지 조회. 첫 페이지에서 정한 카테고리 순서(seed)를 커서에 담아 다음 페이지에서도 그대로 사용합니다.
+     * 정렬된 전체 결과가 캐시에 있으면 그 안에서 잘라 냅니다. 캐시에 없을 때 첫 페이지는 전체를 정렬하지 않고 해당 페이지만 고르고,
+     * 다음 페이지부터는 이어서 넘겨 볼 것이므로 전체를 정렬해 캐시에 채웁니다.
+     */
+    public ClubSearchResponse searchClubsByKeyword(String keyword,
+                                                   String recruitmentStatus,
+                                                   String division,
+                                                   String category,
+                                                   String sessionToken,
+                                                   String cursor,
+                                                   Integer size
+    ) {
+        ClubSearchCursor after = (cursor == null || cursor.isBlank()) ? null : ClubSearchCursor.decode(cursor);
+        ClubSearchOrder order = ClubSearchOrder.of(after != null ? after.seed() : clubSearchSeedProvider.seed(sessionToken));
+        ClubSearchResult afterClub = after == null ? null : after.lastClub();
+        int pageSize = Math.max(1, Math.min(size == null ? DEFAULT_PAGE_SIZE : size, MAX_PAGE_SIZE));
+
+        List<ClubSearchResult> sorted = (after == null)
+                ? clubSearchResultCache.cached(keyword, recruitmentStatus, division, category, order)
+                : clubSearchResultCache.sorted(keyword, recruitmentStatus, division, category, order);
+        ClubSearchPage page = (sorted != null)
+                ? ClubSearchPage.slice(sorted, order.comparator(), afterClub, pageSize)
+                : clubSearchEngine.searchPage(keyword, recruitmentStatus, division, category,
+                        order.comparator(), afterClub, pageSize);
+
+        String nextCursor = null;
+        if (page.hasNext()) {
+            ClubSearchResult last = page.clubs().get(page.clubs().size() - 1);
+            nextCursor = ClubSearchCursor.after(order.seed(), last).encode();
+        }
+        return ClubSearchResponse.builder()
+                .clubs(page.clubs())
+                .totalCount(page.totalCount())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // 같은 카탈로그 내용, 같은 조건, 같은 정렬 seed 면 같은 결과이므로 이들의 해시와 카탈로그 식별자로 ETag 를 만듦
+    public String getSearchETag(String keyword, String recruitmentStatus, String division, String category,
+                                String sessionToken, String cursor, Integer size) {
+        String catalogTag = clubSearchEngine.catalogTag();
+        if (catalogTag == null) {
+            return null;
+        }
+        // 커서에는 seed 가 이미 들어 있음
+        long seed = (cursor == null || cursor.isBlank()) ? clubSearchSeedProvider.seed(sessionToken) : 0;
+        String condition = String.join("\u0000", String.valueOf(keyword), String.valueOf(recruitmentStatus),
+                String.valueOf(division), String.valueOf(category), String.valueOf(cursor), String.valueOf(size),
+                String.valueOf(seed));
+        return "search-" + catalogTag + "-"
+                + DigestUtils.md5DigestAsHex(condition.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public ClubSuggestResponse suggestClubs(String keyword, int size) {
+        return ClubSuggestResponse.builder()
+                .suggestions(clubSuggestEngine.suggest(keyword, size))
+                .build();
+    }
 }
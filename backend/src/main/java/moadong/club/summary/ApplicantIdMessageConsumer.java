@@ -1,6 +1,5 @@
 package moadong.club.summary;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import moadong.club.entity.ClubApplicant;
 import moadong.club.entity.ClubApplicationForm;
@@ -8,6 +7,7 @@ import moadong.club.entity.ClubApplicationFormQuestion;
 import moadong.club.entity.ClubQuestionAnswer;
 import moadong.club.payload.dto.ApplicantSummaryMessage;
 import moadong.club.repository.ClubApplicantsRepository;
+import moadong.club.repository.ClubApplicantsRepositoryCustom;
 import moadong.club.repository.ClubApplicationFormsRepository;
 import moadong.gemma.dto.AIResponse;
 import moadong.gemma.service.GemmaService;
@@ -15,49 +15,213 @@ import moadong.global.exception.ErrorCode;
 import moadong.global.exception.RestApiException;
 import moadong.global.util.AESCipher;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * 지원자 요약 메시지를 묶음으로 받아 같은 지원서의 지원자를 한 번의 Gemma 요청으로 요약합니다.
+ * 긴 지시문을 지원자마다 반복하지 않아 CPU 로 돌리는 모델 서버의 호출당 지연이 줄어듭니다.
+ * 묶음 응답에서 빠진 지원자는 한 명씩 다시 요약합니다.
+ * 질문과 답변이 같은 지원자는 요약 캐시의 결과를 재사용하고, 한 묶음 안에서도 한 번만 요약합니다.
+ */
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class ApplicantIdMessageConsumer {
 
+    private static final String SINGLE_PROMPT = "너는 전문 면접관이다. 다음은 동아리 application의 질문과 지원자의 답변이다. 질문은 무시하고, 지원자의 '답변'에서 핵심만 뽑아라. summarize max length 100 response format: '{response: summarize}'. application: ";
+    private static final String BATCH_PROMPT = "너는 전문 면접관이다. 다음은 동아리 application의 질문과 여러 지원자의 답변이다. 질문은 무시하고, 각 지원자의 '답변'에서 핵심만 뽑아라. 지원자마다 summarize max length 100 response format: '{\"지원자 번호\": summarize, ...}'. applicants: ";
+
     private final ClubApplicantsRepository clubApplicantsRepository;
+    private final ClubApplicantsRepositoryCustom clubApplicantsRepositoryCustom;
     private final ClubApplicationFormsRepository clubApplicationFormsRepository;
     private final AESCipher cipher;
     private final GemmaService gemmaService;
-    private final ApplicantIdMessagePublisher publisher;
+    private final ApplicantSummaryOutbox outbox;
+    private final ApplicantSummaryThrottle throttle;
+    private final ApplicantSummaryCache summaryCache;
+    private final int promptBatchSize;
+
+    private record Application(String prompt, String cacheKey) {
+    }
+
+    public ApplicantIdMessageConsumer(ClubApplicantsRepository clubApplicantsRepository,
+                                      ClubApplicantsRepositoryCustom clubApplicantsRepositoryCustom,
+                                      ClubApplicationFormsRepository clubApplicationFormsRepository,
+                                      AESCipher cipher,
+                                      GemmaService gemmaService,
+                                      ApplicantSummaryOutbox outbox,
+                                      ApplicantSummaryThrottle throttle,
+                                      ApplicantSummaryCache summaryCache,
+                                      @Value("${rabbitmq.summary.batch.size:8}") int promptBatchSize) {
+        this.clubApplicantsRepository = clubApplicantsRepository;
+        this.clubApplicantsRepositoryCustom = clubApplicantsRepositoryCustom;
+        this.clubApplicationFormsRepository = clubApplicationFormsRepository;
+        this.cipher = cipher;
+        this.gemmaService = gemmaService;
+        this.outbox = outbox;
+        this.throttle = throttle;
+        this.summaryCache = summaryCache;
+        this.promptBatchSize = promptBatchSize;
+    }
+
+    @RabbitListener(queues = "${rabbitmq.summary.queue}", containerFactory = "summaryListenerContainerFactory")
+    public void receiveMessages(List<ApplicantSummaryMessage> messages) {
+        throttle.consume(() -> handle(messages));
+    }
+
+    private void handle(List<ApplicantSummaryMessage> messages) {
+        // 같은 지원서끼리 묶고, 같은 지원자가 두 번 들어왔으면 한 번만 처리
+        Map<String, List<String>> applicantIdsByForm = new LinkedHashMap<>();
+        messages.stream()
+                .distinct()
+                .forEach(message -> applicantIdsByForm
+                        .computeIfAbsent(message.applicationFormId(), formId -> new ArrayList<>())
+                        .add(message.applicantId()));
+
+        RuntimeException failure = null;
+        for (Map.Entry<String, List<String>> form : applicantIdsByForm.entrySet()) {
+            List<String> applicantIds = form.getValue();
+            for (int from = 0; from < applicantIds.size(); from += promptBatchSize) {
+                List<String> chunk = applicantIds.subList(from, Math.min(from + promptBatchSize, applicantIds.size()));
+                try {
+                    summarizeChunk(form.getKey(), chunk);
+                } catch (RuntimeException e) {
+                    log.error("지원자 요약 실패: formId={}, applicantIds={}", form.getKey(), chunk, e);
+                    failure = e;
+                }
+            }
+        }
+        // 묶음 전체가 다시 전달되더라도 이미 요약한 지원자는 outbox 에서 걸러짐
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void summarizeChunk(String applicationFormId, List<String> applicantIds) {
+        // 릴레이가 같은 요청을 다시 발행해도 지원자당 한 번만 요약
+        List<String> claimed = applicantIds.stream()
+                .filter(applicantId -> outbox.claimSummary(applicationFormId, applicantId))
+                .toList();
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        List<String> remaining = new ArrayList<>(claimed);
+        try {
+            ClubApplicationForm clubApplicationForm = clubApplicationFormsRepository.findById(applicationFormId).orElseThrow(() -> new RestApiException(ErrorCode.APPLICATION_NOT_FOUND));
+
+            List<ClubApplicant> applicants = new ArrayList<>();
+            clubApplicantsRepository.findAllById(claimed).forEach(applicants::add);
+            List<Application> applications = applications(applicants, clubApplicationForm);
+
+            // 캐시에 있는 요약은 그대로 쓰고, 나머지는 내용이 같은 지원자끼리 한 번만 요약
+            Map<String, String> summaryByKey = new HashMap<>();
+            Map<String, String> promptByKey = new LinkedHashMap<>();
+            for (Application application : applications) {
+                String cached = summaryCache.get(application.cacheKey());
+                if (cached != null) {
+                    summaryByKey.put(application.cacheKey(), cached);
+                } else {
+                    promptByKey.putIfAbsent(application.cacheKey(), application.prompt());
+                }
+            }
+            List<String> keys = new ArrayList<>(promptByKey.keySet());
+            List<String> summarized = summarize(new ArrayList<>(promptByKey.values()));
+            for (int i = 0; i < keys.size(); i++) {
+                summaryByKey.put(keys.get(i), summarized.get(i));
+                summaryCache.put(keys.get(i), summarized.get(i));
+            }
 
-    @RabbitListener(queues = "${rabbitmq.summary.queue}", concurrency = "1")
-    public void receiveMessage(ApplicantSummaryMessage message) {
-        StringBuilder prompt = new StringBuilder("너는 전문 면접관이다. 다음은 동아리 application의 질문과 지원자의 답변이다. 질문은 무시하고, 지원자의 '답변'에서 핵심만 뽑아라. summarize max length 100 response format: '{response: summarize}'. application: ");
-        ClubApplicant clubApplicant = clubApplicantsRepository.findById(message.applicantId()).orElseThrow(() -> new RestApiException(ErrorCode.APPLICANT_NOT_FOUND));
-        ClubApplicationForm clubApplicationForm = clubApplicationFormsRepository.findById(message.applicationFormId()).orElseThrow(() -> new RestApiException(ErrorCode.APPLICATION_NOT_FOUND));
+            for (int i = 0; i < applicants.size(); i++) {
+                String applicantId = applicants.get(i).getId();
+                String summary = summaryByKey.get(applications.get(i).cacheKey());
+                // 요약하는 동안 관리자가 바꾼 상태를 덮어쓰지 않도록 메모만 갱신
+                if (!clubApplicantsRepositoryCustom.updateMemo(applicantId, summary)) {
+                    log.warn("요약 대상 지원자가 삭제되었습니다: applicantId={}", applicantId);
+                }
+                outbox.completeSummary(applicantId);
+                remaining.remove(applicantId);
+            }
+
+            // 요약 전에 삭제된 지원자는 요약할 것이 없음
+            for (String applicantId : remaining) {
+                log.warn("요약 대상 지원자가 삭제되었습니다: applicantId={}", applicantId);
+                outbox.completeSummary(applicantId);
+            }
+            remaining.clear();
+        } finally {
+            remaining.forEach(outbox::releaseSummary);
+        }
+    }
+
+    // 지원자별 답변을 "질문 id. 질문 제목: 답변," 형식으로 이어 붙이고, 같은 답변으로 요약 캐시 키를 만듦
+    private List<Application> applications(List<ClubApplicant> applicants, ClubApplicationForm clubApplicationForm) {
         Map<Long, ClubApplicationFormQuestion> questionMap = clubApplicationForm.getQuestions().stream()
                 .collect(Collectors.toMap(ClubApplicationFormQuestion::getId, Function.identity()));
+        List<String> encrypted = applicants.stream()
+                .flatMap(applicant -> applicant.getAnswers().stream())
+                .map(ClubQuestionAnswer::getValue)
+                .toList();
 
+        List<String> decryptedValues;
         try {
-            for (ClubQuestionAnswer answer : clubApplicant.getAnswers()) {
-                String decryptedValue = cipher.decrypt(answer.getValue());
+            decryptedValues = cipher.decryptAll(encrypted);
+        } catch (Exception e) {
+            log.error("AES_CIPHER_ERROR", e);
+            throw new RestApiException(ErrorCode.AES_CIPHER_ERROR);
+        }
+
+        List<Application> applications = new ArrayList<>(applicants.size());
+        int offset = 0;
+        for (ClubApplicant applicant : applicants) {
+            List<String> values = decryptedValues.subList(offset, offset + applicant.getAnswers().size());
+            offset += values.size();
+
+            StringBuilder prompt = new StringBuilder();
+            for (int i = 0; i < values.size(); i++) {
+                ClubQuestionAnswer answer = applicant.getAnswers().get(i);
                 prompt.append(answer.getId()).append(". ")
                         .append(questionMap.get(answer.getId()).getTitle())
                         .append(": ")
-                        .append(decryptedValue);
+                        .append(values.get(i));
                 prompt.append(",");
             }
-        } catch (Exception e) {
-            log.error("AES_CIPHER_ERROR", e);
-            throw new RestApiException(ErrorCode.AES_CIPHER_ERROR);
+            applications.add(new Application(prompt.toString(),
+                    ApplicantSummaryCache.keyOf(clubApplicationForm.getQuestions(), applicant.getAnswers(), values)));
         }
+        return applications;
+    }
 
-        AIResponse summarizeContent = gemmaService.getSummarizeContent(prompt.toString());
-
-        clubApplicant.updateMemo(summarizeContent.response());
+    private List<String> summarize(List<String> applications) {
+        List<String> summaries = new ArrayList<>(applications.size());
+        Map<String, String> batchSummaries = Map.of();
+        if (applications.size() > 1) {
+            StringBuilder prompt = new StringBuilder(BATCH_PROMPT);
+            for (int i = 0; i < applications.size(); i++) {
+                prompt.append("[지원자 ").append(i + 1).append("] ").append(applications.get(i)).append(" ");
+            }
+            batchSummaries = throttle.callGemma(() -> gemmaService.getSummarizeContents(prompt.toString()), result -> !result.isEmpty());
+        }
 
-        clubApplicantsRepository.save(clubApplicant);
+        for (int i = 0; i < applications.size(); i++) {
+            String summary = batchSummaries.get(String.valueOf(i + 1));
+            if (summary == null) {
+                // 묶음 응답에 빠졌으면 한 명만 다시 요약. 실패하면 예외가 나므로 빈 메모를 쓰지 않음
+                String application = applications.get(i);
+                AIResponse response = throttle.callGemma(() -> gemmaService.getSummarizeContent(SINGLE_PROMPT + application), Objects::nonNull);
+                summary = response.response();
+            }
+            summaries.add(summary);
+        }
+        return summaries;
     }
-}
\ No newline at end of file
+}
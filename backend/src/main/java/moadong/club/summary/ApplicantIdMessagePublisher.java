@@ -1,8 +1,10 @@
 package moadong.club.summary;
 
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import moadong.club.payload.dto.ApplicantSummaryMessage;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -11,9 +13,21 @@ public class ApplicantIdMessagePublisher {
 
     private final RabbitTemplate applicantIdTemplate;
 
-    public void addApplicantIdToQueue(String applicationFormId, String applicantId) {
-        ApplicantSummaryMessage message = new ApplicantSummaryMessage(applicationFormId, applicantId);
+    @Value("${club.summary.outbox.confirm-timeout-millis:10000}")
+    private long confirmTimeoutMillis;
 
-        applicantIdTemplate.convertAndSend(message);
+    /**
+     * 한 채널에서 메시지를 모두 보낸 뒤 브로커 확인(publisher confirm)을 한 번에 기다립니다.
+     * 하나라도 확인받지 못하면 예외를 던지므로, 호출한 쪽은 전체를 다시 보내야 합니다.
+     */
+    public void publishConfirmed(List<ApplicantSummaryMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        applicantIdTemplate.invoke(operations -> {
+            messages.forEach(operations::convertAndSend);
+            operations.waitForConfirmsOrDie(confirmTimeoutMillis);
+            return null;
+        });
     }
 }
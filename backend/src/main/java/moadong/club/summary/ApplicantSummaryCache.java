@@ -0,0 +1,86 @@
+package moadong.club.summary;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.IntStream;
+import moadong.club.entity.ClubApplicationFormQuestion;
+import moadong.club.entity.ClubQuestionAnswer;
+import moadong.global.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 지원서 질문에 같은 답변을 낸 지원자의 요약을 재사용하는 캐시.
+ * 질문 목록과 정규화한 답변의 SHA-256 해시를 키로 하므로, 재제출이나 관리자의 테스트 제출처럼 내용이 같으면 Gemma 를 다시 부르지 않습니다.
+ * 키에는 복호화한 답변 원문이 아니라 해시만 담깁니다.
+ */
+@Component
+public class ApplicantSummaryCache {
+
+    private final LruCache<String, CachedSummary> summaries;
+    private final Duration ttl;
+
+    private record CachedSummary(String summary, Instant cachedAt) {
+    }
+
+    public ApplicantSummaryCache(@Value("${club.summary.cache.max-entries:10000}") int maxEntries,
+                                 @Value("${club.summary.cache.ttl:24h}") Duration ttl) {
+        this.summaries = new LruCache<>(maxEntries);
+        this.ttl = ttl;
+    }
+
+    public String get(String key) {
+        CachedSummary cached = summaries.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.cachedAt().plus(ttl).isBefore(Instant.now())) {
+            summaries.remove(key);
+            return null;
+        }
+        return cached.summary();
+    }
+
+    public void put(String key, String summary) {
+        summaries.put(key, new CachedSummary(summary, Instant.now()));
+    }
+
+    /**
+     * 지원서 질문 목록과 답변으로 캐시 키를 만듭니다.
+     * 질문과 답변은 id 순으로 정렬하고, 답변은 앞뒤 공백을 지우고 연속된 공백을 하나로 줄여 비교합니다.
+     *
+     * @param decryptedValues answers 와 같은 순서의 복호화한 답변
+     */
+    public static String keyOf(Collection<ClubApplicationFormQuestion> questions,
+                               List<ClubQuestionAnswer> answers,
+                               List<String> decryptedValues) {
+        StringBuilder canonical = new StringBuilder();
+        questions.stream()
+                .sorted(Comparator.comparing(ClubApplicationFormQuestion::getId))
+                .forEach(question -> canonical.append(question.getId()).append('\u0000')
+                        .append(question.getTitle()).append('\u0001'));
+        canonical.append('\u0002');
+        IntStream.range(0, answers.size()).boxed()
+                .sorted(Comparator.comparing(i -> answers.get(i).getId()))
+                .forEach(i -> canonical.append(answers.get(i).getId()).append('\u0000')
+                        .append(normalize(decryptedValues.get(i))).append('\u0001'));
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.strip().replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,169 @@
+package moadong.club.summary;
+
+import com.mongodb.bulk.BulkWriteError;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import moadong.club.entity.ClubApplicant;
+import moadong.club.payload.dto.ApplicantSummaryMessage;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지원자 요약 요청을 담아 두는 outbox 컬렉션.
+ * 지원자를 저장하기 전에 지원자 id 를 _id 로 하는 항목을 먼저 기록하고, 릴레이가 이를 모아 RabbitMQ 로 발행합니다.
+ * _id 가 지원자 id 이므로 같은 지원자의 요약 요청은 하나만 남고, 요약 처리도 이 항목에 임대를 잡아 한 번만 수행합니다.
+ */
+@Component
+public class ApplicantSummaryOutbox {
+
+    public static final String COLLECTION = "applicant_summary_outbox";
+    private static final String PENDING = "PENDING";
+    private static final String SENT = "SENT";
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration summaryLease;
+
+    public ApplicantSummaryOutbox(MongoTemplate mongoTemplate,
+                                  @Value("${club.summary.outbox.summary-lease:5m}") Duration summaryLease) {
+        this.mongoTemplate = mongoTemplate;
+        this.summaryLease = summaryLease;
+    }
+
+    public void add(String applicationFormId, String applicantId) {
+        try {
+            mongoTemplate.insert(entry(applicationFormId, applicantId), COLLECTION);
+        } catch (DuplicateKeyException e) {
+            // 이미 기록된 지원자
+        }
+    }
+
+    public void addAll(Collection<ClubApplicant> applicants) {
+        if (applicants.isEmpty()) {
+            return;
+        }
+        List<Document> entries = applicants.stream()
+                .map(applicant -> entry(applicant.getFormId(), applicant.getId()))
+                .toList();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, COLLECTION).insert(entries).execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                if (error.getCode() != DUPLICATE_KEY) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 발행 대기 중이고 다른 릴레이가 잡고 있지 않은 항목을 최대 limit 개까지 임대합니다.
+     */
+    public List<Document> claimPending(int limit, Duration lease) {
+        Date now = new Date();
+        Criteria claimable = Criteria.where("status").is(PENDING)
+                .orOperator(Criteria.where("leaseUntil").exists(false), Criteria.where("leaseUntil").lt(now));
+
+        Query candidates = Query.query(claimable).with(Sort.by(Sort.Direction.ASC, "createdAt")).limit(limit);
+        candidates.fields().include("_id");
+        List<Object> ids = mongoTemplate.find(candidates, Document.class, COLLECTION).stream()
+                .map(document -> document.get("_id"))
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // 후보를 고르는 사이 다른 릴레이가 잡은 항목은 조건이 맞지 않아 빠짐
+        String token = UUID.randomUUID().toString();
+        mongoTemplate.updateMulti(
+                Query.query(new Criteria().andOperator(Criteria.where("_id").in(ids), claimable)),
+                new Update().set("leaseToken", token).set("leaseUntil", Date.from(now.toInstant().plus(lease))),
+                COLLECTION);
+        return mongoTemplate.find(Query.query(Criteria.where("leaseToken").is(token).and("status").is(PENDING)),
+                Document.class, COLLECTION);
+    }
+
+    public void markSent(Collection<Object> ids) {
+        mongoTemplate.updateMulti(Query.query(Criteria.where("_id").in(ids)),
+                new Update().set("status", SENT).set("sentAt", new Date()).unset("leaseToken").unset("leaseUntil"),
+                COLLECTION);
+    }
+
+    public void delete(Collection<Object> ids) {
+        mongoTemplate.remove(Query.query(Criteria.where("_id").in(ids)), COLLECTION);
+    }
+
+    /**
+     * 요약이 끝난 지 retention 이 지난 항목을 지웁니다.
+     */
+    public long deleteSummarizedBefore(Instant cutoff) {
+        return mongoTemplate.remove(Query.query(Criteria.where("status").is(SENT)
+                        .and("summarizedAt").lt(Date.from(cutoff))), COLLECTION)
+                .getDeletedCount();
+    }
+
+    /**
+     * 요약을 시작하기 전에 호출합니다. 이미 요약했거나 다른 소비자가 요약 중이면 false.
+     * outbox 가 생기기 전에 저장된 지원자는 이때 항목을 새로 만듭니다.
+     */
+    public boolean claimSummary(String applicationFormId, String applicantId) {
+        Instant now = Instant.now();
+        Query query = Query.query(Criteria.where("_id").is(applicantId)
+                .and("summarizedAt").exists(false)
+                .orOperator(Criteria.where("summaryLeaseUntil").exists(false),
+                        Criteria.where("summaryLeaseUntil").lt(Date.from(now))));
+        Update update = new Update()
+                .set("summaryLeaseUntil", Date.from(now.plus(summaryLease)))
+                .setOnInsert("formId", applicationFormId)
+                .setOnInsert("status", SENT)
+                .setOnInsert("createdAt", Date.from(now));
+        try {
+            return mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true),
+                    Document.class, COLLECTION) != null;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public void completeSummary(String applicantId) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(applicantId)),
+                new Update().set("summarizedAt", new Date()).unset("summaryLeaseUntil"), COLLECTION);
+    }
+
+    // 요약에 실패하면 재전달된 메시지가 바로 다시 요약할 수 있도록 임대를 풂
+    public void releaseSummary(String applicantId) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(applicantId)),
+                new Update().unset("summaryLeaseUntil"), COLLECTION);
+    }
+
+    public static List<ApplicantSummaryMessage> toMessages(List<Document> entries) {
+        List<ApplicantSummaryMessage> messages = new ArrayList<>(entries.size());
+        for (Document entry : entries) {
+            messages.add(new ApplicantSummaryMessage(entry.getString("formId"), entry.get("_id").toString()));
+        }
+        return messages;
+    }
+
+    private static Document entry(String applicationFormId, String applicantId) {
+        return new Document("_id", applicantId)
+                .append("formId", applicationFormId)
+                .append("status", PENDING)
+                .append("createdAt", new Date());
+    }
+}
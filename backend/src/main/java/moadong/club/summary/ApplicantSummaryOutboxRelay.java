@@ -0,0 +1,118 @@
+package moadong.club.summary;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import moadong.club.entity.ClubApplicant;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * outbox 에 쌓인 요약 요청을 배치로 임대해 RabbitMQ 로 발행합니다.
+ * 브로커가 배치 전체를 확인한 뒤에만 발행 완료로 표시하므로, 발행 중 실패하거나 서버가 죽으면 임대가 끝난 뒤 다시 발행됩니다.
+ * 지원자 저장에 실패해 지원자가 없는 항목은 grace 가 지나면 지웁니다.
+ */
+@Slf4j
+@Component
+public class ApplicantSummaryOutboxRelay {
+
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final ApplicantSummaryOutbox outbox;
+    private final ApplicantIdMessagePublisher publisher;
+    private final MongoTemplate mongoTemplate;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration orphanGrace;
+    private final Duration retention;
+
+    public ApplicantSummaryOutboxRelay(ApplicantSummaryOutbox outbox,
+                                       ApplicantIdMessagePublisher publisher,
+                                       MongoTemplate mongoTemplate,
+                                       @Value("${club.summary.outbox.batch-size:100}") int batchSize,
+                                       @Value("${club.summary.outbox.lease:1m}") Duration lease,
+                                       @Value("${club.summary.outbox.orphan-grace:10m}") Duration orphanGrace,
+                                       @Value("${club.summary.outbox.retention:1d}") Duration retention) {
+        this.outbox = outbox;
+        this.publisher = publisher;
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.orphanGrace = orphanGrace;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${club.summary.outbox.interval-millis:500}")
+    public void relay() {
+        try {
+            // 쌓인 만큼 이어서 보내되, 한 번에 너무 오래 붙잡지 않도록 배치 수를 제한
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                if (relayBatch() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("지원자 요약 outbox 발행 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${club.summary.outbox.cleanup-interval-millis:3600000}")
+    public void cleanup() {
+        try {
+            long deleted = outbox.deleteSummarizedBefore(Instant.now().minus(retention));
+            if (deleted > 0) {
+                log.info("요약이 끝난 outbox 항목 {}건 삭제", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.error("지원자 요약 outbox 정리 실패", e);
+        }
+    }
+
+    private int relayBatch() {
+        List<Document> claimed = outbox.claimPending(batchSize, lease);
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> stored = storedApplicantIds(claimed);
+        Instant orphanCutoff = Instant.now().minus(orphanGrace);
+        List<Document> ready = new ArrayList<>(claimed.size());
+        List<Object> orphans = new ArrayList<>();
+        for (Document entry : claimed) {
+            if (stored.contains(entry.get("_id").toString())) {
+                ready.add(entry);
+            } else if (entry.getDate("createdAt").toInstant().isBefore(orphanCutoff)) {
+                orphans.add(entry.get("_id"));
+            }
+            // 아직 지원자가 저장되는 중일 수 있는 항목은 임대가 끝난 뒤 다시 확인
+        }
+
+        if (!orphans.isEmpty()) {
+            log.warn("지원자가 저장되지 않은 outbox 항목 {}건 삭제", orphans.size());
+            outbox.delete(orphans);
+        }
+        if (!ready.isEmpty()) {
+            publisher.publishConfirmed(ApplicantSummaryOutbox.toMessages(ready));
+            outbox.markSent(ready.stream().map(entry -> entry.get("_id")).toList());
+        }
+        return claimed.size();
+    }
+
+    private Set<String> storedApplicantIds(List<Document> entries) {
+        List<String> ids = entries.stream().map(entry -> entry.get("_id").toString()).toList();
+        Query query = Query.query(Criteria.where("_id").in(ids));
+        query.fields().include("_id");
+        Set<String> stored = new HashSet<>();
+        mongoTemplate.find(query, ClubApplicant.class).forEach(applicant -> stored.add(applicant.getId()));
+        return stored;
+    }
+}
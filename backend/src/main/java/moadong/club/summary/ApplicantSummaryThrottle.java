@@ -0,0 +1,128 @@
+package moadong.club.summary;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import moadong.global.util.AdaptiveConcurrencyLimiter;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요약 소비자의 Gemma 호출 동시성을 조절하고 소비자 상태를 지표로 내보냅니다.
+ * 소비자 스레드는 최대치까지 띄워 두고, 실제 Gemma 호출 수는 응답 시간과 실패에 따라 AIMD 로 조절합니다.
+ *
+ * <p>지표: applicant.summary.queue.depth, applicant.summary.consumers.busy/utilization,
+ * applicant.summary.concurrency.limit/in_flight, applicant.summary.gemma.latency
+ */
+@Slf4j
+@Component
+public class ApplicantSummaryThrottle {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final AmqpAdmin amqpAdmin;
+    private final String queueName;
+    private final int maxConsumers;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final AtomicInteger busyConsumers = new AtomicInteger();
+    private final AtomicLong queueDepth = new AtomicLong();
+
+    public ApplicantSummaryThrottle(MeterRegistry meterRegistry,
+                                    AmqpAdmin amqpAdmin,
+                                    @Value("${rabbitmq.summary.queue}") String queueName,
+                                    @Value("${rabbitmq.summary.consumers.min:1}") int minConsumers,
+                                    @Value("${rabbitmq.summary.consumers.max:8}") int maxConsumers,
+                                    @Value("${rabbitmq.summary.concurrency.latency-threshold:20s}") Duration latencyThreshold,
+                                    @Value("${rabbitmq.summary.concurrency.backoff-ratio:0.7}") double backoffRatio) {
+        this.limiter = new AdaptiveConcurrencyLimiter(minConsumers, maxConsumers, minConsumers, latencyThreshold, backoffRatio);
+        this.amqpAdmin = amqpAdmin;
+        this.queueName = queueName;
+        this.maxConsumers = maxConsumers;
+        this.successTimer = latencyTimer(meterRegistry, "success");
+        this.failureTimer = latencyTimer(meterRegistry, "failure");
+
+        Gauge.builder("applicant.summary.queue.depth", queueDepth, AtomicLong::get)
+                .description("요약 대기 중인 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("applicant.summary.consumers.busy", busyConsumers, AtomicInteger::get)
+                .description("메시지를 처리 중인 요약 소비자 수")
+                .register(meterRegistry);
+        Gauge.builder("applicant.summary.consumers.utilization", this, throttle -> throttle.busyConsumers.get() / (double) throttle.maxConsumers)
+                .description("최대 소비자 수 대비 처리 중인 소비자 비율")
+                .register(meterRegistry);
+        Gauge.builder("applicant.summary.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::currentLimit)
+                .description("현재 허용하는 Gemma 동시 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("applicant.summary.concurrency.in_flight", limiter, AdaptiveConcurrencyLimiter::inFlight)
+                .description("진행 중인 Gemma 호출 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 소비자 한 명이 메시지를 처리하는 동안 감쌉니다.
+     */
+    public void consume(Runnable handler) {
+        busyConsumers.incrementAndGet();
+        try {
+            handler.run();
+        } finally {
+            busyConsumers.decrementAndGet();
+        }
+    }
+
+    /**
+     * 동시성 한도 안에서 Gemma 를 호출합니다. succeeded 가 false 인 결과나 예외는 실패로 보고 한도를 줄입니다.
+     */
+    public <T> T callGemma(Supplier<T> call, Predicate<T> succeeded) {
+        try {
+            limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Gemma 호출 대기 중 인터럽트", e);
+        }
+
+        long started = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = call.get();
+            success = succeeded.test(result);
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            limiter.release(elapsed, TimeUnit.NANOSECONDS, success);
+            (success ? successTimer : failureTimer).record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 지표 수집 때마다 브로커에 묻지 않도록 주기적으로 갱신
+    @Scheduled(fixedDelayString = "${rabbitmq.summary.queue-depth.interval-millis:15000}")
+    public void refreshQueueDepth() {
+        try {
+            Properties properties = amqpAdmin.getQueueProperties(queueName);
+            if (properties != null) {
+                queueDepth.set(((Number) properties.get(RabbitAdmin.QUEUE_MESSAGE_COUNT)).longValue());
+            }
+        } catch (RuntimeException e) {
+            log.warn("요약 큐 길이 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    private static Timer latencyTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("applicant.summary.gemma.latency")
+                .description("요약을 위한 Gemma 호출 시간")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,157 @@
+package moadong.gemma.client;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import moadong.gemma.dto.AIRequest;
+import moadong.gemma.dto.AIResponse;
+import moadong.global.util.CircuitBreaker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+/**
+ * 모델 서버 전용 HTTP 클라이언트.
+ * 공용 RestTemplate 대신 연결을 재사용하는 JDK HttpClient 위에 연결/응답 타임아웃을 두고,
+ * 동시 호출 수(벌크헤드), 연속 실패 시 차단(서킷 브레이커), 지터를 둔 지수 백오프 재시도를 적용합니다.
+ * 재시도는 요청이 서버에 닿지 않았거나 게이트웨이가 거절한 경우(연결 실패, 502/503/504)만 합니다.
+ * 응답 타임아웃은 서버가 이미 생성 중일 수 있어 다시 보내면 부하만 늘리므로 재시도하지 않습니다.
+ * 응답 대기 시간은 묶음 요약 한 번에 들어가는 지원자 수에 비례해 잡습니다.
+ * 실패는 null 대신 GemmaClientException 으로 알립니다.
+ */
+@Slf4j
+@Component
+public class GemmaClient {
+
+    private static final String MODEL = "gemma3:4b";
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(502, 503, 504);
+
+    private final RestClient restClient;
+    private final URI generateUri;
+    private final Semaphore bulkhead;
+    private final Duration bulkheadWait;
+    private final CircuitBreaker circuitBreaker;
+    private final RetryTemplate retryTemplate;
+
+    public GemmaClient(@Value("${gemma.server.host}") String host,
+                       @Value("${gemma.server.port}") int port,
+                       @Value("${gemma.client.connect-timeout:3s}") Duration connectTimeout,
+                       @Value("${gemma.client.read-timeout-per-applicant:30s}") Duration readTimeoutPerApplicant,
+                       @Value("${rabbitmq.summary.batch.size:8}") int promptBatchSize,
+                       @Value("${gemma.client.max-concurrent-calls:8}") int maxConcurrentCalls,
+                       @Value("${gemma.client.bulkhead-wait:30s}") Duration bulkheadWait,
+                       @Value("${gemma.client.circuit.failure-threshold:5}") int failureThreshold,
+                       @Value("${gemma.client.circuit.open-duration:30s}") Duration openDuration,
+                       @Value("${gemma.client.retry.max-attempts:3}") int maxAttempts,
+                       @Value("${gemma.client.retry.initial-backoff:500ms}") Duration initialBackoff,
+                       @Value("${gemma.client.retry.max-backoff:5s}") Duration maxBackoff) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeoutPerApplicant.multipliedBy(Math.max(1, promptBatchSize)));
+
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+        this.generateUri = URI.create("http://" + host + ":" + port + "/api/generate");
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.bulkheadWait = bulkheadWait;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDuration);
+        // call 이 재시도해도 되는 실패만 RetryableCallException 으로 감쌈. 재시도 간격은 지수로 늘리되 무작위로 흩어 동시에 몰리지 않게 함
+        this.retryTemplate = RetryTemplate.builder()
+                .maxAttempts(maxAttempts)
+                .exponentialBackoff(initialBackoff.toMillis(), 2, maxBackoff.toMillis(), true)
+                .retryOn(RetryableCallException.class)
+                .build();
+    }
+
+    /**
+     * 프롬프트를 보내고 모델이 생성한 응답 본문(response)을 돌려줍니다.
+     */
+    public String generate(String prompt) {
+        acquireBulkhead();
+        try {
+            return retryTemplate.execute(context -> call(prompt));
+        } catch (RetryableCallException e) {
+            throw new GemmaClientException("모델 서버 호출 실패", e.getCause());
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    private String call(String prompt) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new GemmaClientException("모델 서버 서킷이 열려 있습니다.");
+        }
+        AIResponse response;
+        try {
+            response = restClient.post()
+                    .uri(generateUri)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(new AIRequest(MODEL, prompt, "json", false, -1))
+                    .retrieve()
+                    .body(AIResponse.class);
+        } catch (ResourceAccessException | HttpServerErrorException e) {
+            circuitBreaker.onFailure();
+            log.warn("모델 서버 호출 실패: {}", e.getMessage());
+            if (isRetryable(e)) {
+                throw new RetryableCallException(e);
+            }
+            throw new GemmaClientException("모델 서버 호출 실패", e);
+        } catch (RuntimeException e) {
+            // 4xx 등 서버 상태와 무관한 오류는 서킷에 반영하지 않음
+            circuitBreaker.onSuccess();
+            throw new GemmaClientException("모델 서버 요청 오류", e);
+        }
+        circuitBreaker.onSuccess();
+
+        if (response == null || response.response() == null) {
+            throw new GemmaClientException("모델 서버 응답이 비어 있습니다.");
+        }
+        return response.response();
+    }
+
+    // 요청이 서버에 닿지 않은 연결 실패와, 앞단이 요청을 넘기지 못한 게이트웨이 오류만 재시도
+    private static boolean isRetryable(RuntimeException e) {
+        if (e instanceof HttpServerErrorException serverError) {
+            return RETRYABLE_STATUSES.contains(serverError.getStatusCode().value());
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof HttpConnectTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void acquireBulkhead() {
+        try {
+            if (!bulkhead.tryAcquire(bulkheadWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new GemmaClientException("모델 서버 동시 호출 한도를 넘었습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GemmaClientException("모델 서버 호출 대기 중 인터럽트", e);
+        }
+    }
+
+    private static final class RetryableCallException extends RuntimeException {
+        private RetryableCallException(RuntimeException cause) {
+            super(cause);
+        }
+    }
+}
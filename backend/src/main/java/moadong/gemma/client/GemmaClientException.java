@@ -0,0 +1,15 @@
+package moadong.gemma.client;
+
+/**
+ * 모델 서버 호출이 실패했거나, 서킷 브레이커/벌크헤드에 막혀 호출하지 못했을 때 던집니다.
+ */
+public class GemmaClientException extends RuntimeException {
+
+    public GemmaClientException(String message) {
+        super(message);
+    }
+
+    public GemmaClientException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
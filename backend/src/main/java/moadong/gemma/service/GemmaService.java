@@ -1,40 +1,60 @@
 package moadong.gemma.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import moadong.gemma.dto.AIRequest;
+import moadong.gemma.client.GemmaClient;
+import moadong.gemma.client.GemmaClientException;
 import moadong.gemma.dto.AIResponse;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class GemmaService {
 
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
-
-    @Value("${gemma.server.host}")
-    private String gemmaServerHost;
+    private static final TypeReference<Map<String, String>> SUMMARIES_TYPE = new TypeReference<>() {
+    };
 
-    @Value("${gemma.server.port}")
-    private String gemmaServerPort;
+    private final GemmaClient gemmaClient;
+    private final ObjectMapper objectMapper;
 
+    /**
+     * 요약을 받습니다. 모델 서버 호출에 실패했거나 요약이 비어 있으면 GemmaClientException 을 던집니다.
+     */
     public AIResponse getSummarizeContent(String prompt) {
+        String content = gemmaClient.generate(prompt);
         try {
-            String gemmaServerUrl = "http://" + gemmaServerHost + ":" + gemmaServerPort + "/api/generate";
-            AIRequest request = new AIRequest("gemma3:4b", prompt, "json", false, -1);
-            AIResponse response = restTemplate.postForObject(gemmaServerUrl, request, AIResponse.class);
-            if (response != null) {
-                return objectMapper.readValue(response.response(), AIResponse.class);
+            AIResponse summary = objectMapper.readValue(content, AIResponse.class);
+            if (summary == null || summary.response() == null || summary.response().isBlank()) {
+                throw new GemmaClientException("요약이 비어 있습니다.");
             }
-        } catch (Exception e) {
+            return summary;
+        } catch (JsonProcessingException e) {
+            log.error("Json Serialize Error: ", e);
+            throw new GemmaClientException("요약 응답을 해석할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 여러 지원자를 한 번에 요약한 응답을 받습니다. 응답은 {"지원자 번호": "요약"} 형식의 JSON 이어야 하며,
+     * 해석할 수 없으면 빈 Map 을, 모델 서버 호출에 실패하면 GemmaClientException 을 던집니다.
+     * 요약이 빈 지원자는 결과에서 뺍니다.
+     */
+    public Map<String, String> getSummarizeContents(String prompt) {
+        String content = gemmaClient.generate(prompt);
+        try {
+            Map<String, String> summaries = new HashMap<>(objectMapper.readValue(content, SUMMARIES_TYPE));
+            summaries.values().removeIf(summary -> summary == null || summary.isBlank());
+            return summaries;
+        } catch (JsonProcessingException e) {
             log.error("Json Serialize Error: ", e);
-            return null;
+            return Map.of();
         }
-        return null;
     }
 }
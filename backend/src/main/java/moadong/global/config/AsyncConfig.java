@@ -24,4 +24,16 @@ public class AsyncConfig {
         return executor;
     }
 
+    // 지원자 전체 삭제처럼 오래 걸리는 정리 작업은 한 번에 하나씩만 수행
+    @Bean(name = "applicantPurgeAsync")
+    public TaskExecutor applicantPurgeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("moadong-purge-");
+        executor.initialize();
+        return executor;
+    }
+
 }
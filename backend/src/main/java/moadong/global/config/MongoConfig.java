@@ -1,5 +1,7 @@
 package moadong.global.config;
 
+import moadong.global.mongo.MongoCommandMetricsListener;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.MongoDatabaseFactory;
@@ -11,4 +13,10 @@ public class MongoConfig {
     public MongoTransactionManager transactionManager(MongoDatabaseFactory dbFactory) {
         return new MongoTransactionManager(dbFactory);
     }
+
+    // 명령별 지연시간/느린 쿼리 계측 리스너 등록
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoCommandMetricsCustomizer(MongoCommandMetricsListener listener) {
+        return builder -> builder.addCommandListener(listener);
+    }
 }
@@ -5,6 +5,7 @@ import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.rabbit.annotation.EnableRabbit;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -34,6 +35,21 @@ public class RabbitMQConfig {
     @Value("${rabbitmq.summary.routingKey}")
     private String APPLICANT_ID_ROUTING_KEY;
 
+    @Value("${rabbitmq.summary.consumers.min:1}")
+    private int SUMMARY_MIN_CONSUMERS;
+
+    @Value("${rabbitmq.summary.consumers.max:8}")
+    private int SUMMARY_MAX_CONSUMERS;
+
+    @Value("${rabbitmq.summary.prefetch:2}")
+    private int SUMMARY_PREFETCH;
+
+    @Value("${rabbitmq.summary.batch.size:8}")
+    private int SUMMARY_BATCH_SIZE;
+
+    @Value("${rabbitmq.summary.batch.window-millis:2000}")
+    private long SUMMARY_BATCH_WINDOW_MILLIS;
+
     private static final String DEAD_LETTER_EXCHANGE_NAME = "dead.letter.exchange";
     private static final String DEAD_LETTER_QUEUE_NAME = "dead.letter.queue";
     private static final String DEAD_LETTER_ROUTING_KEY = "dead.letter.routing.key";
@@ -83,6 +99,25 @@ public class RabbitMQConfig {
         return template;
     }
 
+    // 요약 소비자: 큐가 쌓이면 최대 개수까지 소비자를 늘림.
+    // 메시지를 batch.size 개까지, 최대 batch.window 동안 모아 한 번에 넘겨 여러 지원자를 한 요청으로 요약함
+    @Bean
+    public SimpleRabbitListenerContainerFactory summaryListenerContainerFactory(ConnectionFactory connectionFactory,
+                                                                                MessageConverter messageConverter) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(messageConverter);
+        factory.setConcurrentConsumers(SUMMARY_MIN_CONSUMERS);
+        factory.setMaxConcurrentConsumers(SUMMARY_MAX_CONSUMERS);
+        // 묶음을 채울 수 있도록 prefetch 는 묶음 크기 이상으로 둠
+        factory.setPrefetchCount(Math.max(SUMMARY_PREFETCH, SUMMARY_BATCH_SIZE));
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(SUMMARY_BATCH_SIZE);
+        factory.setReceiveTimeout(SUMMARY_BATCH_WINDOW_MILLIS);
+        return factory;
+    }
+
     @Bean
     public MessageConverter Jackson2JsonMessageConverter() {
         return new Jackson2JsonMessageConverter();
@@ -93,6 +128,8 @@ public class RabbitMQConfig {
         CachingConnectionFactory cf = new CachingConnectionFactory(host, port);
         cf.setUsername(username);
         cf.setPassword(password);
+        // outbox 릴레이가 배치 단위로 브로커 확인을 기다릴 수 있도록 confirm 모드로 채널을 엶
+        cf.setPublisherConfirmType(CachingConnectionFactory.ConfirmType.SIMPLE);
         return cf;
     }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ public enum ErrorCode {
     TOO_LONG_INTRODUCTION(HttpStatus.BAD_REQUEST, "600-10", "소개는 최대 24글자까지 입력할 수 있습니다."),
     ONE_PERIOD_CANNOT_BE_NULL(HttpStatus.BAD_REQUEST, "600-11", "모집시작/종료일은 동시에 하나만 null일 수 없습니다."),
     START_SHOULD_BE_FASTER_THAN_END(HttpStatus.BAD_REQUEST, "600-12", "모집시작일은 모집종료일보다 같거나 늦을 수 없습니다."),
+    CLUB_SEARCH_CURSOR_INVALID(HttpStatus.BAD_REQUEST, "600-13", "올바르지 않은 검색 커서입니다."),
 
     IMAGE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "601-1", "이미지 업로드에 실패하였습니다."),
     FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "601-2", "이미지 파일을 찾을 수 없습니다."),
@@ -48,6 +49,7 @@ public enum ErrorCode {
     REQUIRED_QUESTION_MISSING(HttpStatus.BAD_REQUEST, "800-5", "필수 응답 질문이 누락되었습니다."),
     ACTIVE_APPLICATION_NOT_FOUND(HttpStatus.NOT_FOUND, "800-6", "활성화된 지원서 양식이 존재하지 않습니다."),
     APPLICATION_SEMESTER_INVALID(HttpStatus.BAD_REQUEST, "800-7", "올바르지 않은 학기입니다."),
+    APPLICATION_NOT_CLOSED(HttpStatus.BAD_REQUEST, "800-8", "마감된 지원서 양식만 지원자를 전체 삭제할 수 있습니다."),
 
     AES_CIPHER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "900-1", "암호화 중 오류가 발생했습니다."),
     APPLICANT_NOT_FOUND(HttpStatus.NOT_FOUND, "900-2", "지원서가 존재하지 않습니다."),
@@ -0,0 +1,97 @@
+package moadong.global.mongo;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mongo 드라이버 명령 단위 지연시간 계측.
+ * 컬렉션과 논리 연산(저장소 메서드) 태그를 붙인 mongodb.command.latency 히스토그램을 기록하고,
+ * 임계값을 넘은 명령은 값이 가려진 명령 구조와 함께 느린 쿼리 로그로 남깁니다.
+ */
+@Slf4j
+@Component
+public class MongoCommandMetricsListener implements CommandListener {
+
+    public static final String METRIC_NAME = "mongodb.command.latency";
+
+    private static final String NO_COLLECTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final boolean slowLogEnabled;
+    private final Map<Integer, StartedCommand> inFlight = new ConcurrentHashMap<>();
+
+    private record StartedCommand(String collection, String operation, String shape) {
+    }
+
+    public MongoCommandMetricsListener(MeterRegistry meterRegistry,
+                                       @Value("${mongo.command.slow-threshold:200ms}") Duration slowThreshold,
+                                       @Value("${mongo.command.slow-log.enabled:true}") boolean slowLogEnabled) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.slowLogEnabled = slowLogEnabled;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        BsonDocument command = event.getCommand();
+        // 명령 문서는 이 콜백 안에서만 유효하므로 필요한 값은 지금 뽑아 둠
+        inFlight.put(event.getRequestId(), new StartedCommand(
+                collectionOf(event.getCommandName(), command),
+                MongoOperationContext.current(),
+                slowLogEnabled ? MongoCommandShape.of(command) : null
+        ));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        finish(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS), "success");
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        finish(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS), "failure");
+    }
+
+    private void finish(int requestId, String commandName, long elapsedNanos, String status) {
+        StartedCommand started = inFlight.remove(requestId);
+        if (started == null) {
+            return;
+        }
+
+        Timer.builder(METRIC_NAME)
+                .description("Mongo 명령 실행 시간")
+                .tag("collection", started.collection())
+                .tag("command", commandName)
+                .tag("operation", started.operation())
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (slowLogEnabled && elapsedNanos >= slowThresholdNanos) {
+            log.warn("느린 Mongo 쿼리 {}ms collection={} command={} operation={} status={} shape={}",
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), started.collection(), commandName,
+                    started.operation(), status, started.shape());
+        }
+    }
+
+    private static String collectionOf(String commandName, BsonDocument command) {
+        // getMore 는 컬렉션 이름을 별도 필드로 가짐
+        BsonValue value = "getMore".equals(commandName) ? command.get("collection") : command.get(commandName);
+        return value != null && value.isString() ? value.asString().getValue() : NO_COLLECTION;
+    }
+}
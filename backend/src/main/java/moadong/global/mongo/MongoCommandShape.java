@@ -0,0 +1,91 @@
+package moadong.global.mongo;
+
+import java.util.Map;
+import java.util.Set;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+/**
+ * 느린 쿼리 로그용으로 Mongo 명령에서 값은 모두 "?" 로 가리고 구조(필드 이름, 연산자, 파이프라인 단계)만 남깁니다.
+ * 지원자 답변처럼 개인정보가 담긴 값이 로그에 남지 않도록 합니다.
+ */
+public final class MongoCommandShape {
+
+    private static final String REDACTED = "?";
+    private static final int MAX_DEPTH = 8;
+    private static final int MAX_LENGTH = 2_000;
+    private static final String DOCUMENTS_FIELD = "documents";
+
+    // 드라이버가 붙이는 세션/클러스터 정보는 구조 파악에 필요 없음
+    private static final Set<String> IGNORED_FIELDS = Set.of(
+            "$db", "lsid", "$clusterTime", "txnNumber", "$readPreference", "signature", "autocommit", "startTransaction"
+    );
+
+    private MongoCommandShape() {
+    }
+
+    public static String of(BsonDocument command) {
+        StringBuilder shape = new StringBuilder();
+        appendDocument(shape, command, 0);
+        if (shape.length() > MAX_LENGTH) {
+            shape.setLength(MAX_LENGTH);
+            shape.append("...");
+        }
+        return shape.toString();
+    }
+
+    private static void appendValue(StringBuilder shape, BsonValue value, int depth) {
+        if (depth > MAX_DEPTH) {
+            shape.append("...");
+        } else if (value.isDocument()) {
+            appendDocument(shape, value.asDocument(), depth);
+        } else if (value.isArray()) {
+            appendArray(shape, value.asArray(), depth);
+        } else {
+            shape.append(REDACTED);
+        }
+    }
+
+    private static void appendDocument(StringBuilder shape, BsonDocument document, int depth) {
+        shape.append('{');
+        boolean first = true;
+        for (Map.Entry<String, BsonValue> entry : document.entrySet()) {
+            if (shape.length() > MAX_LENGTH) {
+                break;
+            }
+            if (depth == 0 && IGNORED_FIELDS.contains(entry.getKey())) {
+                continue;
+            }
+            if (!first) {
+                shape.append(", ");
+            }
+            first = false;
+            shape.append(entry.getKey()).append(": ");
+            if (depth == 0 && DOCUMENTS_FIELD.equals(entry.getKey()) && entry.getValue().isArray()) {
+                // insert 할 문서 내용은 구조를 볼 필요가 없어 개수만 남김
+                shape.append("[").append(entry.getValue().asArray().size()).append(" documents]");
+                continue;
+            }
+            appendValue(shape, entry.getValue(), depth + 1);
+        }
+        shape.append('}');
+    }
+
+    // 파이프라인처럼 단계마다 구조가 다른 배열은 모두 남기고, 값 목록($in 등)은 개수만 남김
+    private static void appendArray(StringBuilder shape, BsonArray array, int depth) {
+        boolean structured = array.stream().anyMatch(element -> element.isDocument() || element.isArray());
+        if (!structured) {
+            shape.append("[? x").append(array.size()).append(']');
+            return;
+        }
+        shape.append('[');
+        for (int i = 0; i < array.size() && shape.length() <= MAX_LENGTH; i++) {
+            if (i > 0) {
+                shape.append(", ");
+            }
+            appendValue(shape, array.get(i), depth + 1);
+        }
+        shape.append(']');
+    }
+}
@@ -0,0 +1,89 @@
+package moadong.global.mongo;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+
+/**
+ * 컬렉션에 있어야 하는 인덱스 하나의 선언.
+ *
+ * @param fields 인덱스 키 순서대로의 필드와 정렬 방향
+ */
+public record MongoIndexDefinition(
+        String collection,
+        String name,
+        List<Key> fields,
+        boolean unique
+) {
+
+    public record Key(String field, Sort.Direction direction) {
+    }
+
+    public static Builder on(String collection, String name) {
+        return new Builder(collection, name);
+    }
+
+    public Index toIndex() {
+        Index index = new Index().named(name);
+        fields.forEach(key -> index.on(key.field(), key.direction()));
+        if (unique) {
+            index.unique();
+        }
+        return index;
+    }
+
+    // 이름이 달라도 키 구성이 같으면 같은 인덱스로 봄
+    public boolean sameKeys(IndexInfo info) {
+        List<IndexField> indexFields = info.getIndexFields();
+        if (indexFields.size() != fields.size()) {
+            return false;
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            IndexField indexField = indexFields.get(i);
+            Key key = fields.get(i);
+            if (!key.field().equals(indexField.getKey()) || key.direction() != indexField.getDirection()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String qualifiedName() {
+        return collection + "." + name;
+    }
+
+    public static class Builder {
+
+        private final String collection;
+        private final String name;
+        private final List<Key> fields = new ArrayList<>();
+        private boolean unique;
+
+        private Builder(String collection, String name) {
+            this.collection = collection;
+            this.name = name;
+        }
+
+        public Builder asc(String field) {
+            fields.add(new Key(field, Sort.Direction.ASC));
+            return this;
+        }
+
+        public Builder desc(String field) {
+            fields.add(new Key(field, Sort.Direction.DESC));
+            return this;
+        }
+
+        public Builder unique() {
+            this.unique = true;
+            return this;
+        }
+
+        public MongoIndexDefinition build() {
+            return new MongoIndexDefinition(collection, name, List.copyOf(fields), unique);
+        }
+    }
+}
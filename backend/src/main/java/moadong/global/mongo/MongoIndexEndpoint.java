@@ -0,0 +1,30 @@
+package moadong.global.mongo;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mongo 인덱스 점검용 actuator 엔드포인트.
+ * GET /actuator/mongoindexes 로 빠진/사용되지 않는 인덱스를 확인하고,
+ * POST /actuator/mongoindexes 로 빠진 인덱스를 다시 생성합니다.
+ */
+@Component
+@Endpoint(id = "mongoindexes")
+@RequiredArgsConstructor
+public class MongoIndexEndpoint {
+
+    private final MongoIndexReconciler mongoIndexReconciler;
+
+    @ReadOperation
+    public MongoIndexReport indexes() {
+        return mongoIndexReconciler.inspect();
+    }
+
+    @WriteOperation
+    public MongoIndexReport reconcile() {
+        return mongoIndexReconciler.reconcile();
+    }
+}
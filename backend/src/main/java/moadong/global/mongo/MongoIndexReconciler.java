@@ -0,0 +1,170 @@
+package moadong.global.mongo;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 {@link MongoIndexes}에 선언한 인덱스와 실제 인덱스를 맞춥니다.
+ * 같은 키의 인덱스가 이미 있으면 이름이 달라도 그대로 두고, 없으면 생성합니다. (여러 번 실행해도 안전)
+ * strict 모드에서는 점검 후에도 빠진 인덱스가 있으면 기동을 중단합니다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MongoIndexReconciler implements ApplicationRunner {
+
+    private static final String ID_INDEX = "_id_";
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final boolean create;
+    private final boolean strict;
+
+    public MongoIndexReconciler(MongoTemplate mongoTemplate,
+                                @Value("${mongo.index.reconcile.enabled:true}") boolean enabled,
+                                @Value("${mongo.index.reconcile.create:true}") boolean create,
+                                @Value("${mongo.index.reconcile.strict:false}") boolean strict) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.create = create;
+        this.strict = strict;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        MongoIndexReport report;
+        try {
+            report = reconcile();
+        } catch (RuntimeException e) {
+            if (strict) {
+                throw new IllegalStateException("Mongo 인덱스 점검에 실패했습니다.", e);
+            }
+            log.error("Mongo 인덱스 점검 실패", e);
+            return;
+        }
+
+        if (!report.healthy()) {
+            if (strict) {
+                throw new IllegalStateException("필수 Mongo 인덱스가 없습니다. missing=" + report.missing()
+                        + ", conflicting=" + report.conflicting());
+            }
+            log.warn("필수 Mongo 인덱스 누락: missing={}, conflicting={}", report.missing(), report.conflicting());
+        }
+    }
+
+    /**
+     * 선언된 인덱스를 만들고 결과를 반환합니다. create 가 꺼져 있으면 점검만 합니다.
+     */
+    public synchronized MongoIndexReport reconcile() {
+        return check(create);
+    }
+
+    /**
+     * 인덱스를 만들지 않고 현재 상태만 점검합니다.
+     */
+    public MongoIndexReport inspect() {
+        return check(false);
+    }
+
+    private MongoIndexReport check(boolean createMissing) {
+        List<String> created = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        List<String> conflicting = new ArrayList<>();
+        List<String> unused = new ArrayList<>();
+        List<String> undeclared = new ArrayList<>();
+
+        for (String collection : collections()) {
+            IndexOperations indexOps = mongoTemplate.indexOps(collection);
+            List<IndexInfo> existing = indexOps.getIndexInfo();
+            Set<String> declaredNames = new LinkedHashSet<>();
+
+            for (MongoIndexDefinition definition : definitionsOf(collection)) {
+                IndexInfo matched = existing.stream().filter(definition::sameKeys).findFirst().orElse(null);
+                if (matched != null) {
+                    declaredNames.add(matched.getName());
+                    if (matched.isUnique() != definition.unique()) {
+                        conflicting.add(collection + "." + matched.getName());
+                    }
+                    continue;
+                }
+                if (!createMissing) {
+                    missing.add(definition.qualifiedName());
+                    continue;
+                }
+                try {
+                    indexOps.ensureIndex(definition.toIndex());
+                    declaredNames.add(definition.name());
+                    created.add(definition.qualifiedName());
+                    log.info("Mongo 인덱스 생성: {}", definition.qualifiedName());
+                } catch (RuntimeException e) {
+                    missing.add(definition.qualifiedName());
+                    log.error("Mongo 인덱스 생성 실패: {}", definition.qualifiedName(), e);
+                }
+            }
+
+            Map<String, Long> accesses = indexAccesses(collection);
+            for (IndexInfo info : existing) {
+                if (ID_INDEX.equals(info.getName())) {
+                    continue;
+                }
+                String qualifiedName = collection + "." + info.getName();
+                if (!declaredNames.contains(info.getName())) {
+                    undeclared.add(qualifiedName);
+                }
+                if (accesses.getOrDefault(info.getName(), -1L) == 0L) {
+                    unused.add(qualifiedName);
+                }
+            }
+        }
+
+        return new MongoIndexReport(Instant.now(), created, missing, conflicting, unused, undeclared);
+    }
+
+    // 인덱스 이름별 사용 횟수. 권한 부족 등으로 조회하지 못하면 빈 값
+    private Map<String, Long> indexAccesses(String collection) {
+        Map<String, Long> accesses = new HashMap<>();
+        try {
+            for (Document stats : mongoTemplate.getCollection(collection)
+                    .aggregate(List.of(new Document("$indexStats", new Document())))) {
+                Document access = stats.get("accesses", Document.class);
+                long ops = access == null ? 0 : ((Number) access.get("ops")).longValue();
+                // 레플리카/샤드별로 나뉘어 오므로 합산
+                accesses.merge(stats.getString("name"), ops, Long::sum);
+            }
+        } catch (RuntimeException e) {
+            log.warn("$indexStats 조회 실패: {}", collection, e);
+        }
+        return accesses;
+    }
+
+    private static Set<String> collections() {
+        Set<String> collections = new LinkedHashSet<>();
+        MongoIndexes.REQUIRED.forEach(definition -> collections.add(definition.collection()));
+        return collections;
+    }
+
+    private static List<MongoIndexDefinition> definitionsOf(String collection) {
+        return MongoIndexes.REQUIRED.stream()
+                .filter(definition -> definition.collection().equals(collection))
+                .toList();
+    }
+}
@@ -0,0 +1,27 @@
+package moadong.global.mongo;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 인덱스 점검 결과. 각 항목은 "컬렉션.인덱스이름" 형식입니다.
+ *
+ * @param created     이번 점검에서 새로 만든 인덱스
+ * @param missing     선언했지만 아직 없는 인덱스 (생성 실패 또는 생성 비활성화)
+ * @param conflicting 같은 키의 인덱스가 있지만 unique 여부가 선언과 다른 인덱스
+ * @param unused      $indexStats 기준 서버 기동 이후 한 번도 사용되지 않은 인덱스
+ * @param undeclared  선언 목록에 없는 인덱스 (_id 제외)
+ */
+public record MongoIndexReport(
+        Instant checkedAt,
+        List<String> created,
+        List<String> missing,
+        List<String> conflicting,
+        List<String> unused,
+        List<String> undeclared
+) {
+
+    public boolean healthy() {
+        return missing.isEmpty() && conflicting.isEmpty();
+    }
+}
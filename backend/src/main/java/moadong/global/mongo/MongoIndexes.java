@@ -0,0 +1,51 @@
+package moadong.global.mongo;
+
+import java.util.List;
+
+/**
+ * 서비스가 조회에 사용하는 필드 기준으로 선언한 Mongo 인덱스 목록.
+ * 새 조회 조건을 추가하면 여기에 인덱스도 함께 선언해 주세요.
+ */
+public final class MongoIndexes {
+
+    public static final List<MongoIndexDefinition> REQUIRED = List.of(
+            // 동아리 계정으로 내 동아리 조회 (findClubByUserId)
+            MongoIndexDefinition.on("clubs", "clubs_userId")
+                    .asc("userId")
+                    .build(),
+            // 검색/추천: 활성 상태 + 모집 상태 + 카테고리 필터
+            MongoIndexDefinition.on("clubs", "clubs_state_recruitmentStatus_category")
+                    .asc("state")
+                    .asc("recruitmentInformation.clubRecruitmentStatus")
+                    .asc("category")
+                    .build(),
+            // 동아리별 지원서 목록, 상태별 최신 지원서 조회 (findTopByClubIdAndStatusOrderByEditedAtDesc)
+            MongoIndexDefinition.on("club_application_forms", "forms_clubId_status_editedAt")
+                    .asc("clubId")
+                    .asc("status")
+                    .desc("editedAt")
+                    .build(),
+            // 지원서별 지원자 목록 (findAllByFormId)
+            MongoIndexDefinition.on("club_applicants", "applicants_formId_status")
+                    .asc("formId")
+                    .asc("status")
+                    .build(),
+            // 요약 outbox 릴레이: 발행 대기 항목을 오래된 순으로 임대
+            MongoIndexDefinition.on("applicant_summary_outbox", "outbox_status_createdAt")
+                    .asc("status")
+                    .asc("createdAt")
+                    .build(),
+            // 토큰으로 FCM 구독 정보 조회 (findFcmTokenByToken)
+            MongoIndexDefinition.on("fcm_tokens", "fcm_tokens_token")
+                    .asc("token")
+                    .build(),
+            // User.userId 의 @Indexed(unique = true) 와 같은 인덱스 (auto-index-creation 이 꺼져 있어 직접 선언)
+            MongoIndexDefinition.on("users", "users_userId")
+                    .asc("userId")
+                    .unique()
+                    .build()
+    );
+
+    private MongoIndexes() {
+    }
+}
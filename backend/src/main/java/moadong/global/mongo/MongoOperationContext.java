@@ -0,0 +1,37 @@
+package moadong.global.mongo;
+
+/**
+ * 현재 스레드에서 실행 중인 저장소 메서드 이름(논리 연산).
+ * Mongo 명령 리스너는 같은 스레드에서 호출되므로, 명령이 어느 저장소 메서드에서 나왔는지 이 값으로 구분합니다.
+ */
+public final class MongoOperationContext {
+
+    public static final String UNKNOWN = "unknown";
+
+    private static final ThreadLocal<String> OPERATION = new ThreadLocal<>();
+
+    private MongoOperationContext() {
+    }
+
+    public static String current() {
+        String operation = OPERATION.get();
+        return operation == null ? UNKNOWN : operation;
+    }
+
+    /**
+     * operation 을 설정하고 이전 값을 반환합니다. 호출한 쪽은 끝난 뒤 {@link #restore(String)}로 되돌려야 합니다.
+     */
+    public static String enter(String operation) {
+        String previous = OPERATION.get();
+        OPERATION.set(operation);
+        return previous;
+    }
+
+    public static void restore(String previous) {
+        if (previous == null) {
+            OPERATION.remove();
+        } else {
+            OPERATION.set(previous);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package moadong.global.mongo;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 저장소 메서드 실행 동안 "저장소.메서드" 를 {@link MongoOperationContext}에 기록합니다.
+ * 중첩 호출(저장소가 다른 저장소를 부르는 경우)은 가장 안쪽 메서드 기준으로 기록하고 끝나면 되돌립니다.
+ */
+@Aspect
+@Component
+public class MongoRepositoryOperationAspect {
+
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("within(moadong..repository..*) || this(org.springframework.data.repository.Repository)")
+    public Object recordOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = repositoryName(joinPoint.getThis()) + "." + joinPoint.getSignature().getName();
+        String previous = MongoOperationContext.enter(operation);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            MongoOperationContext.restore(previous);
+        }
+    }
+
+    // Spring Data 저장소는 프록시라 구현 클래스 대신 우리가 선언한 인터페이스 이름을 사용
+    private String repositoryName(Object proxy) {
+        return repositoryNames.computeIfAbsent(proxy.getClass(), type -> {
+            for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+                if (candidate.getName().startsWith("moadong.")) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return AopUtils.getTargetClass(proxy).getSimpleName();
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package moadong.global.payload;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 public record Response<T>(
@@ -10,6 +11,8 @@ public record Response<T>(
 
     private static final String OK_CODE = "200";
     private static final String OK_MESSAGE = "ok";
+    private static final String ACCEPTED_CODE = "202";
+    private static final String ACCEPTED_MESSAGE = "accepted";
 
     public static <T> ResponseEntity<Response<T>> ok(T data) {
         return ResponseEntity.ok(new Response<>(OK_CODE, OK_MESSAGE, data));
@@ -19,4 +22,17 @@ public record Response<T>(
         return ResponseEntity.ok(new Response<>(OK_CODE, message, data));
     }
 
+    public static <T> ResponseEntity<Response<T>> accepted(T data) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new Response<>(ACCEPTED_CODE, ACCEPTED_MESSAGE, data));
+    }
+
+    public static <T> ResponseEntity<Response<T>> okWithETag(T data, String eTag) {
+        if (eTag == null) {
+            return ok(data);
+        }
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .body(new Response<>(OK_CODE, OK_MESSAGE, data));
+    }
+
 }
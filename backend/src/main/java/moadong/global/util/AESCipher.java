@@ -1,54 +1,204 @@
 package moadong.global.util;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 import javax.crypto.Cipher;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * 지원서 답변 암복호화.
+ * 새로 암호화하는 값은 "v1:{키 ID}:{Base64(nonce + 암호문)}" 형식으로 레코드마다 임의 nonce 를 사용하고,
+ * 접두어가 없는 기존 값은 고정 IV 방식(legacy)으로 복호화합니다.
+ * 키 ID 를 함께 저장하므로 키 교체 중에도 이전 키로 암호화된 값을 읽을 수 있습니다.
+ */
 @Component
 public class AESCipher {
 
-    @Value("${application.encryption.key}")
-    private String key;
+    public static final String LEGACY_KEY_ID = "0";
 
-    @Value("${application.encryption.iv}")
-    private String iv;
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int TAG_LENGTH_BIT = 128;
+    private static final int NONCE_LENGTH = 12;
+    private static final String VERSION_PREFIX = "v1:";
+
+    // 이보다 적은 개수는 스레드 분배 비용이 복호화 비용보다 커서 순차 처리
+    static final int PARALLEL_THRESHOLD = 32;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // 키/파라미터는 불변이라 한 번만 만들어 공유
+    private final SecretKeySpec legacyKeySpec;
+    private final GCMParameterSpec legacyParameterSpec;
+    private final Map<String, SecretKeySpec> keyRing;
+    private final String activeKeyId;
+
+    // Cipher 는 스레드 안전하지 않으므로 스레드마다 하나씩 재사용
+    private final ThreadLocal<Cipher> decryptCiphers = ThreadLocal.withInitial(AESCipher::newCipher);
+
+    public AESCipher(String key, String iv) {
+        this(key, iv, "", LEGACY_KEY_ID);
+    }
 
     /**
-     * 문자열을 AES-256 알고리즘으로 암호화합니다.
+     * @param keys        추가 키 목록. "키ID:키,키ID:키" 형식이며 기존 키는 항상 {@link #LEGACY_KEY_ID}로 등록됩니다.
+     * @param activeKeyId 새로 암호화할 때 사용할 키 ID
+     */
+    @Autowired
+    public AESCipher(@Value("${application.encryption.key}") String key,
+                     @Value("${application.encryption.iv}") String iv,
+                     @Value("${application.encryption.keys:}") String keys,
+                     @Value("${application.encryption.active-key-id:" + LEGACY_KEY_ID + "}") String activeKeyId) {
+        this.legacyKeySpec = keySpec(key);
+        this.legacyParameterSpec = new GCMParameterSpec(TAG_LENGTH_BIT, iv.getBytes(StandardCharsets.UTF_8));
+        this.keyRing = parseKeyRing(keys, legacyKeySpec);
+        this.activeKeyId = activeKeyId;
+
+        if (!keyRing.containsKey(activeKeyId)) {
+            throw new IllegalStateException("등록되지 않은 암호화 키 ID 입니다: " + activeKeyId);
+        }
+    }
+
+    /**
+     * 문자열을 현재 키와 임의 nonce 로 AES-256 GCM 암호화합니다.
      *
      * @param text 암호화할 문자열
-     * @return Base64로 인코딩된 암호화된 문자열
+     * @return "v1:{키 ID}:{Base64(nonce + 암호문)}" 형식의 문자열
      * @throws Exception 암호화 중 오류 발생 시
      */
     public String encrypt(String text) throws Exception {
-        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
-        SecretKeySpec keySpec = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "AES");
-        GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(128, iv.getBytes(StandardCharsets.UTF_8));
-        cipher.init(Cipher.ENCRYPT_MODE, keySpec, gcmParameterSpec);
+        byte[] nonce = new byte[NONCE_LENGTH];
+        RANDOM.nextBytes(nonce);
 
+        // 암호화는 매번 다른 nonce 로 초기화되지만, 호출 빈도가 낮아 Cipher 를 새로 생성
+        Cipher cipher = newCipher();
+        cipher.init(Cipher.ENCRYPT_MODE, keyRing.get(activeKeyId), new GCMParameterSpec(TAG_LENGTH_BIT, nonce));
         byte[] encrypted = cipher.doFinal(text.getBytes(StandardCharsets.UTF_8));
-        return Base64.getEncoder().encodeToString(encrypted);
+
+        byte[] payload = ByteBuffer.allocate(NONCE_LENGTH + encrypted.length).put(nonce).put(encrypted).array();
+        return VERSION_PREFIX + activeKeyId + ":" + Base64.getEncoder().encodeToString(payload);
     }
 
     /**
-     * AES-256 알고리즘으로 암호화된 문자열을 복호화합니다.
+     * AES-256 알고리즘으로 암호화된 문자열을 복호화합니다. 기존 형식(고정 IV)도 복호화할 수 있습니다.
      *
-     * @param cipherText Base64로 인코딩된 암호화된 문자열
+     * @param cipherText 암호화된 문자열
      * @return 복호화된 원본 문자열
      * @throws Exception 복호화 중 오류 발생 시
      */
     public String decrypt(String cipherText) throws Exception {
-        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
-        SecretKeySpec keySpec = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "AES");
-        GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(128, iv.getBytes(StandardCharsets.UTF_8));
-        cipher.init(Cipher.DECRYPT_MODE, keySpec, gcmParameterSpec);
+        Cipher cipher = decryptCiphers.get();
+
+        if (!cipherText.startsWith(VERSION_PREFIX)) {
+            cipher.init(Cipher.DECRYPT_MODE, legacyKeySpec, legacyParameterSpec);
+            byte[] decrypted = cipher.doFinal(Base64.getDecoder().decode(cipherText));
+            return new String(decrypted, StandardCharsets.UTF_8);
+        }
 
-        byte[] decodedBytes = Base64.getDecoder().decode(cipherText);
-        byte[] decrypted = cipher.doFinal(decodedBytes);
+        int separator = cipherText.indexOf(':', VERSION_PREFIX.length());
+        if (separator < 0) {
+            throw new GeneralSecurityException("올바르지 않은 암호문 형식입니다.");
+        }
+        String keyId = cipherText.substring(VERSION_PREFIX.length(), separator);
+        SecretKeySpec keySpec = keyRing.get(keyId);
+        if (keySpec == null) {
+            throw new GeneralSecurityException("등록되지 않은 암호화 키 ID 입니다: " + keyId);
+        }
+
+        byte[] payload = Base64.getDecoder().decode(cipherText.substring(separator + 1));
+        if (payload.length <= NONCE_LENGTH) {
+            throw new GeneralSecurityException("올바르지 않은 암호문 길이입니다.");
+        }
+        cipher.init(Cipher.DECRYPT_MODE, keySpec, new GCMParameterSpec(TAG_LENGTH_BIT, payload, 0, NONCE_LENGTH));
+        byte[] decrypted = cipher.doFinal(payload, NONCE_LENGTH, payload.length - NONCE_LENGTH);
         return new String(decrypted, StandardCharsets.UTF_8);
     }
-}
\ No newline at end of file
+
+    /**
+     * 여러 암호문을 한 번에 복호화합니다. 개수가 많으면 여러 코어에 나누어 처리하며, 결과 순서는 입력과 같습니다.
+     *
+     * @param cipherTexts 암호화된 문자열 목록
+     * @return 복호화된 원본 문자열 목록
+     * @throws Exception 하나라도 복호화에 실패한 경우
+     */
+    public List<String> decryptAll(List<String> cipherTexts) throws Exception {
+        String[] decrypted = new String[cipherTexts.size()];
+        IntStream indexes = IntStream.range(0, decrypted.length);
+        if (decrypted.length >= PARALLEL_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+
+        try {
+            indexes.forEach(i -> {
+                try {
+                    decrypted[i] = decrypt(cipherTexts.get(i));
+                } catch (Exception e) {
+                    throw new BulkDecryptException(e);
+                }
+            });
+        } catch (BulkDecryptException e) {
+            throw (Exception) e.getCause();
+        }
+        return List.of(decrypted);
+    }
+
+    /**
+     * 기존 형식이거나 현재 키가 아닌 키로 암호화되어 재암호화가 필요한지 확인합니다.
+     */
+    public boolean needsReencryption(String cipherText) {
+        return !cipherText.startsWith(VERSION_PREFIX + activeKeyId + ":");
+    }
+
+    public String activeKeyId() {
+        return activeKeyId;
+    }
+
+    private static Map<String, SecretKeySpec> parseKeyRing(String keys, SecretKeySpec legacyKeySpec) {
+        Map<String, SecretKeySpec> ring = new HashMap<>();
+        ring.put(LEGACY_KEY_ID, legacyKeySpec);
+        for (String entry : keys.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalStateException("암호화 키 목록 형식이 올바르지 않습니다. (키ID:키)");
+            }
+            String keyId = entry.substring(0, separator).trim();
+            if (LEGACY_KEY_ID.equals(keyId)) {
+                throw new IllegalStateException("키 ID " + LEGACY_KEY_ID + " 는 기존 키용으로 예약되어 있습니다.");
+            }
+            ring.put(keyId, keySpec(entry.substring(separator + 1).trim()));
+        }
+        return Map.copyOf(ring);
+    }
+
+    private static SecretKeySpec keySpec(String key) {
+        return new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "AES");
+    }
+
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(TRANSFORMATION + " 를 사용할 수 없습니다.", e);
+        }
+    }
+
+    // 병렬 스트림 안에서 검사 예외를 밖으로 전달하기 위한 래퍼
+    private static final class BulkDecryptException extends RuntimeException {
+        private BulkDecryptException(Exception cause) {
+            super(cause);
+        }
+    }
+}
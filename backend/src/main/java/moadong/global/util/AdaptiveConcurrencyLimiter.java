@@ -0,0 +1,103 @@
+package moadong.global.util;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 응답 시간과 실패 여부로 동시 호출 수 한도를 조절하는 AIMD 제한기.
+ * 임계 시간 안에 성공하면 한도를 조금씩(한 바퀴에 1) 늘리고, 느리거나 실패하면 한도를 비율만큼 줄입니다.
+ * 한도를 모두 쓰고 있을 때만 늘려, 한가할 때 한도가 의미 없이 커지지 않게 합니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    // 마지막으로 호출이 모두 끝난 뒤 한 번이라도 한도를 모두 썼는지
+    private boolean saturated;
+
+    /**
+     * @param initialLimit     처음 한도
+     * @param latencyThreshold 이보다 오래 걸린 호출은 과부하로 보고 한도를 줄임
+     * @param backoffRatio     한도를 줄일 때 곱하는 비율 (0~1)
+     */
+    public AdaptiveConcurrencyLimiter(int minLimit, int maxLimit, int initialLimit,
+                                      Duration latencyThreshold, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("invalid limit range: " + minLimit + ".." + maxLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be between 0 and 1: " + backoffRatio);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 한도에 여유가 생길 때까지 기다립니다.
+     */
+    public void acquire() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (inFlight >= currentLimit()) {
+                released.await();
+            }
+            inFlight++;
+            if (inFlight >= currentLimit()) {
+                saturated = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 호출이 끝나면 반드시 호출합니다.
+     */
+    public void release(long latency, TimeUnit unit, boolean success) {
+        lock.lock();
+        try {
+            inFlight--;
+            if (!success || unit.toNanos(latency) > latencyThresholdNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (saturated) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            if (inFlight == 0) {
+                saturated = false;
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int currentLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
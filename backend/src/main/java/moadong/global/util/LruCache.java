@@ -0,0 +1,113 @@
+package moadong.global.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 버리는 메모리 캐시.
+ * 기본은 항목 개수로 크기를 재고, weigher 를 주면 항목마다 계산한 무게의 합으로 잽니다.
+ * 모든 연산은 캐시 단위로 동기화됩니다.
+ */
+public class LruCache<K, V> {
+
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    private final LinkedHashMap<K, Weighted<V>> entries;
+    private long totalWeight;
+    private long hits;
+    private long misses;
+
+    private record Weighted<V>(V value, long weight) {
+    }
+
+    public LruCache(int maxEntries) {
+        this(maxEntries, value -> 1L);
+    }
+
+    /**
+     * @param maxWeight 담을 수 있는 무게 합의 최댓값
+     * @param weigher   항목의 무게. 항목을 넣을 때 한 번 계산합니다.
+     */
+    public LruCache(long maxWeight, ToLongFunction<V> weigher) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("maxWeight must be positive: " + maxWeight);
+        }
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public synchronized V get(K key) {
+        Weighted<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        long weight = Math.max(0L, weigher.applyAsLong(value));
+        Weighted<V> previous = entries.put(key, new Weighted<>(value, weight));
+        if (previous != null) {
+            totalWeight -= previous.weight();
+        }
+        totalWeight += weight;
+
+        // 가장 오래 사용하지 않은 항목부터 버림. 한도보다 무거운 항목은 자기 자신도 버려짐
+        Iterator<Weighted<V>> eldest = entries.values().iterator();
+        while (totalWeight > maxWeight && eldest.hasNext()) {
+            totalWeight -= eldest.next().weight();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 계산해 넣습니다. loader 는 잠금 밖에서 실행되므로 같은 키가 동시에 두 번 계산될 수 있습니다.
+     */
+    public V computeIfAbsent(K key, Function<K, V> loader) {
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+        V loaded = loader.apply(key);
+        if (loaded != null) {
+            put(key, loaded);
+        }
+        return loaded;
+    }
+
+    public synchronized V remove(K key) {
+        Weighted<V> removed = entries.remove(key);
+        if (removed == null) {
+            return null;
+        }
+        totalWeight -= removed.weight();
+        return removed.value();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        totalWeight = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weight() {
+        return totalWeight;
+    }
+
+    public synchronized long hitCount() {
+        return hits;
+    }
+
+    public synchronized long missCount() {
+        return misses;
+    }
+}
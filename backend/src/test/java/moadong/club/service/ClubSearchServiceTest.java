@@ -5,13 +5,17 @@ import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.List;
 import moadong.club.payload.dto.ClubSearchResult;
 import moadong.club.payload.response.ClubSearchResponse;
-import moadong.club.repository.ClubSearchRepository;
+import moadong.club.search.ClubSearchEngine;
+import moadong.club.search.ClubSearchResultCache;
+import moadong.club.search.ClubSearchSeedProvider;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -19,11 +23,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class ClubSearchServiceTest {
 
     @Mock
-    private ClubSearchRepository clubSearchRepository;
+    private ClubSearchEngine clubSearchEngine;
 
-    @InjectMocks
     private ClubSearchService clubSearchService;
 
+    @BeforeEach
+    void setUp() {
+        ClubSearchResultCache cache = new ClubSearchResultCache(clubSearchEngine, new SimpleMeterRegistry(), 16);
+        clubSearchService = new ClubSearchService(clubSearchEngine, null, cache,
+                new ClubSearchSeedProvider(Duration.ofHours(1)));
+    }
+
     @Test
     void 검색조건이_유효하면_모집상태순으로_정렬하여_반환한다() {
         // given
@@ -43,7 +53,7 @@ class ClubSearchServiceTest {
 
         List<ClubSearchResult> unsorted = List.of(club1, club2, club3,club4);
 
-        when(clubSearchRepository.searchClubsByKeyword(keyword, recruitmentStatus, division, category))
+        when(clubSearchEngine.search(keyword, recruitmentStatus, division, category))
                 .thenReturn(unsorted);
 
         // when
@@ -62,7 +72,7 @@ class ClubSearchServiceTest {
 //        String division = "중동";
 //        String category = "봉사";
 //
-//        when(clubSearchRepository.searchClubsByKeyword(keyword, recruitmentStatus, division, category))
+//        when(clubSearchEngine.search(keyword, recruitmentStatus, division, category))
 //                .thenReturn(List.of()); // 빈 리스트 반환
 //
 //        // when
@@ -89,7 +99,7 @@ class ClubSearchServiceTest {
 //
 //        List<ClubSearchResult> unsorted = List.of(club3, club2, club1);
 //
-//        when(clubSearchRepository.searchClubsByKeyword(keyword, recruitmentStatus, division, category))
+//        when(clubSearchEngine.search(keyword, recruitmentStatus, division, category))
 //                .thenReturn(unsorted);
 //
 //        // when
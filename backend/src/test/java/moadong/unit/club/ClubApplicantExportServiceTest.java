@@ -0,0 +1,140 @@
+package moadong.unit.club;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import moadong.club.entity.ClubApplicant;
+import moadong.club.entity.ClubApplicationForm;
+import moadong.club.entity.ClubApplicationFormQuestion;
+import moadong.club.entity.ClubQuestionAnswer;
+import moadong.club.enums.ApplicantStatus;
+import moadong.club.enums.ClubApplicationQuestionType;
+import moadong.club.repository.ClubApplicationFormsRepository;
+import moadong.club.service.ClubApplicantExportService;
+import moadong.global.util.AESCipher;
+import moadong.util.annotations.UnitTest;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+@UnitTest
+class ClubApplicantExportServiceTest {
+
+    @Mock
+    private ClubApplicationFormsRepository clubApplicationFormsRepository;
+    @Mock
+    private MongoTemplate mongoTemplate;
+    @Mock
+    private AESCipher cipher;
+    @InjectMocks
+    private ClubApplicantExportService clubApplicantExportService;
+
+    @Test
+    void 질문_순서대로_열을_만들고_답하지_않은_질문은_비워둔다() throws Exception {
+        ClubApplicationForm form = form(question(2L, "이름"), question(1L, "학과"), question(3L, "자기소개"));
+        ClubApplicant applicant = applicant("applicant-1", "",
+                new ClubQuestionAnswer(1L, "컴퓨터공학과"), new ClubQuestionAnswer(2L, "홍길동"));
+        givenApplicants(applicant);
+
+        List<String> lines = export(form);
+
+        assertEquals("\uFEFF\"지원자 ID\",\"상태\",\"메모\",\"제출일시\",\"이름\",\"학과\",\"자기소개\"", lines.get(0));
+        assertEquals("\"applicant-1\",\"SUBMITTED\",,\"2025-03-02 09:05:07\",\"홍길동\",\"컴퓨터공학과\",", lines.get(1));
+    }
+
+    @Test
+    void 쉼표와_따옴표와_줄바꿈이_든_값은_따옴표로_감싼다() throws Exception {
+        ClubApplicationForm form = form(question(1L, "소개"));
+        givenApplicants(applicant("applicant-1", "메모, \"중요\"",
+                new ClubQuestionAnswer(1L, "첫 줄\n둘째 줄")));
+
+        String csv = exportText(form);
+
+        assertTrue(csv.contains("\"메모, \"\"중요\"\"\""));
+        assertTrue(csv.contains("\"첫 줄\n둘째 줄\""));
+    }
+
+    @Test
+    void 수식으로_시작하는_값은_실행되지_않도록_작은따옴표를_붙인다() throws Exception {
+        ClubApplicationForm form = form(question(1L, "A"), question(2L, "B"), question(3L, "C"), question(4L, "D"));
+        givenApplicants(applicant("applicant-1", "",
+                new ClubQuestionAnswer(1L, "=SUM(A1:A2)"), new ClubQuestionAnswer(2L, "+1"),
+                new ClubQuestionAnswer(3L, "-1"), new ClubQuestionAnswer(4L, "@cmd")));
+
+        List<String> lines = export(form);
+
+        assertTrue(lines.get(1).endsWith(",\"'=SUM(A1:A2)\",\"'+1\",\"'-1\",\"'@cmd\""));
+    }
+
+    @Test
+    void 지원서의_모든_지원자를_상태와_관계없이_내보낸다() throws Exception {
+        givenApplicants();
+
+        export(form(question(1L, "이름")));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(query.capture(), eq(ClubApplicant.class));
+        assertEquals(new Document("formId", "form-1"), query.getValue().getQueryObject());
+    }
+
+    private void givenApplicants(ClubApplicant... applicants) throws Exception {
+        when(mongoTemplate.stream(any(Query.class), eq(ClubApplicant.class)))
+                .thenReturn(Stream.of(applicants));
+        if (applicants.length > 0) {
+            // 암호화는 이 테스트의 관심사가 아니므로 값을 그대로 돌려줌
+            when(cipher.decryptAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        }
+    }
+
+    private List<String> export(ClubApplicationForm form) throws Exception {
+        return List.of(exportText(form).split("\r\n"));
+    }
+
+    private String exportText(ClubApplicationForm form) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        clubApplicantExportService.writeApplicantsCsv(form, outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private static ClubApplicationForm form(ClubApplicationFormQuestion... questions) {
+        return ClubApplicationForm.builder()
+                .id("form-1")
+                .clubId("club-1")
+                .questions(List.of(questions))
+                .build();
+    }
+
+    private static ClubApplicationFormQuestion question(Long id, String title) {
+        return ClubApplicationFormQuestion.builder()
+                .id(id)
+                .title(title)
+                .description("")
+                .type(ClubApplicationQuestionType.SHORT_TEXT)
+                .build();
+    }
+
+    private static ClubApplicant applicant(String id, String memo, ClubQuestionAnswer... answers) {
+        return ClubApplicant.builder()
+                .id(id)
+                .formId("form-1")
+                .status(ApplicantStatus.SUBMITTED)
+                .memo(memo)
+                .answers(List.of(answers))
+                .createdAt(LocalDateTime.of(2025, 3, 2, 9, 5, 7))
+                .build();
+    }
+}
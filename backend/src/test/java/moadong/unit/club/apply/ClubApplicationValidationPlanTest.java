@@ -0,0 +1,102 @@
+package moadong.unit.club.apply;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import moadong.club.apply.ClubApplicationValidationPlan;
+import moadong.club.entity.ClubApplicationForm;
+import moadong.club.entity.ClubApplicationFormQuestion;
+import moadong.club.entity.ClubQuestionOption;
+import moadong.club.enums.ClubApplicationQuestionType;
+import moadong.club.payload.request.ClubApplyRequest.Answer;
+import moadong.global.exception.ErrorCode;
+import moadong.global.exception.RestApiException;
+import moadong.util.annotations.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class ClubApplicationValidationPlanTest {
+
+    private final ClubApplicationValidationPlan plan = ClubApplicationValidationPlan.compile(form(List.of(
+            question(3L, ClubApplicationQuestionType.SHORT_TEXT, true),
+            question(1L, ClubApplicationQuestionType.LONG_TEXT, false),
+            question(7L, ClubApplicationQuestionType.CHOICE, true)
+    )));
+
+    @Test
+    void 필수_질문에_모두_답하면_통과한다() {
+        assertDoesNotThrow(() -> plan.validate(List.of(new Answer(7L, "1"), new Answer(3L, "홍길동"))));
+    }
+
+    @Test
+    void 필수_질문이_빠지면_다른_오류보다_먼저_알린다() {
+        RestApiException exception = assertThrows(RestApiException.class,
+                () -> plan.validate(List.of(new Answer(99L, "?"), new Answer(3L, "홍길동"))));
+
+        assertEquals(ErrorCode.REQUIRED_QUESTION_MISSING, exception.getErrorCode());
+    }
+
+    @Test
+    void 같은_질문에_여러_번_답해도_필수_질문_하나로_센다() {
+        RestApiException exception = assertThrows(RestApiException.class,
+                () -> plan.validate(List.of(new Answer(3L, "a"), new Answer(3L, "b"))));
+
+        assertEquals(ErrorCode.REQUIRED_QUESTION_MISSING, exception.getErrorCode());
+    }
+
+    @Test
+    void 없는_질문에_답하면_실패한다() {
+        RestApiException exception = assertThrows(RestApiException.class,
+                () -> plan.validate(List.of(new Answer(3L, "a"), new Answer(7L, "1"), new Answer(2L, "?"))));
+
+        assertEquals(ErrorCode.QUESTION_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    void 질문_유형별_글자_수를_검증한다() {
+        RestApiException shortText = assertThrows(RestApiException.class,
+                () -> plan.validate(List.of(new Answer(3L, "가".repeat(101)), new Answer(7L, "1"))));
+        RestApiException longText = assertThrows(RestApiException.class,
+                () -> plan.validate(List.of(new Answer(3L, "a"), new Answer(7L, "1"), new Answer(1L, "가".repeat(1001)))));
+
+        assertEquals(ErrorCode.SHORT_EXCEED_LENGTH, shortText.getErrorCode());
+        assertEquals(ErrorCode.LONG_EXCEED_LENGTH, longText.getErrorCode());
+    }
+
+    @Test
+    void 질문이_64개를_넘어도_필수_질문을_검증한다() {
+        List<ClubApplicationFormQuestion> questions = new ArrayList<>();
+        List<Answer> answers = new ArrayList<>();
+        for (long id = 0; id < 100; id++) {
+            questions.add(question(id, ClubApplicationQuestionType.SHORT_TEXT, true));
+            answers.add(new Answer(id, "답변"));
+        }
+        ClubApplicationValidationPlan largePlan = ClubApplicationValidationPlan.compile(form(questions));
+
+        assertDoesNotThrow(() -> largePlan.validate(answers));
+        RestApiException exception = assertThrows(RestApiException.class,
+                () -> largePlan.validate(answers.subList(0, 99)));
+        assertEquals(ErrorCode.REQUIRED_QUESTION_MISSING, exception.getErrorCode());
+    }
+
+    private static ClubApplicationForm form(List<ClubApplicationFormQuestion> questions) {
+        return ClubApplicationForm.builder()
+                .id("form")
+                .questions(new ArrayList<>(questions))
+                .build();
+    }
+
+    private static ClubApplicationFormQuestion question(long id, ClubApplicationQuestionType type, boolean required) {
+        return ClubApplicationFormQuestion.builder()
+                .id(id)
+                .title("질문 " + id)
+                .description("")
+                .type(type)
+                .options(ClubQuestionOption.builder().required(required).build())
+                .items(List.of())
+                .build();
+    }
+}
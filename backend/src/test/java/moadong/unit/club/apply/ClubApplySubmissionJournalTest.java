@@ -0,0 +1,155 @@
+package moadong.unit.club.apply;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import moadong.club.apply.ClubApplySubmission;
+import moadong.club.apply.ClubApplySubmissionJournal;
+import moadong.util.annotations.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class ClubApplySubmissionJournalTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void 저장되지_않은_제출은_재기동하면_다시_전달된다() throws Exception {
+        Path directory = Files.createTempDirectory("apply-journal");
+        ClubApplySubmissionJournal journal = new ClubApplySubmissionJournal(directory, 1024 * 1024, objectMapper);
+        journal.start(entries -> { });
+        journal.append(submission("a")).get();
+        journal.append(submission("b")).get();
+        journal.stop();
+
+        List<ClubApplySubmissionJournal.Entry> recovered = new CopyOnWriteArrayList<>();
+        ClubApplySubmissionJournal restarted = new ClubApplySubmissionJournal(directory, 1024 * 1024, objectMapper);
+        restarted.start(recovered::addAll);
+        restarted.stop();
+
+        assertEquals(List.of("a", "b"), recovered.stream().map(entry -> entry.submission().receiptId()).toList());
+        assertEquals("답변", recovered.get(0).submission().answers().get(0).value());
+    }
+
+    @Test
+    void 모두_저장된_세그먼트는_삭제된다() throws Exception {
+        Path directory = Files.createTempDirectory("apply-journal");
+        List<ClubApplySubmissionJournal.Entry> durable = new CopyOnWriteArrayList<>();
+        ClubApplySubmissionJournal journal = new ClubApplySubmissionJournal(directory, 1024 * 1024, objectMapper);
+        journal.start(durable::addAll);
+        journal.append(submission("a")).get();
+        journal.acknowledge(durable);
+        journal.stop();
+
+        assertEquals(0, segmentCount(directory));
+    }
+
+    @Test
+    void 마지막_레코드가_끊겼으면_그_앞까지만_복구한다() throws Exception {
+        Path directory = Files.createTempDirectory("apply-journal");
+        ClubApplySubmissionJournal journal = new ClubApplySubmissionJournal(directory, 1024 * 1024, objectMapper);
+        journal.start(entries -> { });
+        journal.append(submission("a")).get();
+        journal.stop();
+
+        // 길이만 쓰고 본문을 쓰기 전에 종료된 상황
+        try (Stream<Path> files = Files.list(directory)) {
+            Path segment = files.findFirst().orElseThrow();
+            Files.write(segment, new byte[]{0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND);
+        }
+
+        List<ClubApplySubmissionJournal.Entry> recovered = new CopyOnWriteArrayList<>();
+        ClubApplySubmissionJournal restarted = new ClubApplySubmissionJournal(directory, 1024 * 1024, objectMapper);
+        restarted.start(recovered::addAll);
+        restarted.stop();
+
+        assertEquals(1, recovered.size());
+        assertEquals("a", recovered.get(0).submission().receiptId());
+    }
+
+    @Test
+    void 세그먼트_크기를_넘으면_새_세그먼트에_기록한다() throws Exception {
+        Path directory = Files.createTempDirectory("apply-journal");
+        ClubApplySubmissionJournal journal = new ClubApplySubmissionJournal(directory, 128, objectMapper);
+        journal.start(entries -> { });
+        for (int i = 0; i < 3; i++) {
+            journal.append(submission("id-" + i)).get();
+        }
+        journal.stop();
+
+        assertTrue(segmentCount(directory) >= 3);
+    }
+
+    @Test
+    void 저장을_확인하며_기록해도_세그먼트가_넘어가고_지난_세그먼트는_삭제된다() throws Exception {
+        Path directory = Files.createTempDirectory("apply-journal");
+        List<ClubApplySubmissionJournal.Entry> durable = new CopyOnWriteArrayList<>();
+        ClubApplySubmissionJournal journal = new ClubApplySubmissionJournal(directory, 128, objectMapper);
+        journal.start(durable::addAll);
+        Path first = null;
+        for (int i = 0; i < 5; i++) {
+            journal.append(submission("id-" + i)).get();
+            journal.acknowledge(durable);
+            durable.clear();
+            if (first == null) {
+                try (Stream<Path> files = Files.list(directory)) {
+                    first = files.findFirst().orElseThrow();
+                }
+            }
+        }
+
+        // 모두 저장된 지난 세그먼트는 지워지고 기록 중인 세그먼트 하나만 남음
+        assertFalse(Files.exists(first));
+        assertEquals(1, segmentCount(directory));
+        journal.stop();
+        assertEquals(0, segmentCount(directory));
+    }
+
+    @Test
+    void 중간이_손상된_세그먼트는_사본을_남긴다() throws Exception {
+        Path directory = Files.createTempDirectory("apply-journal");
+        ClubApplySubmissionJournal journal = new ClubApplySubmissionJournal(directory, 1024 * 1024, objectMapper);
+        journal.start(entries -> { });
+        journal.append(submission("a")).get();
+        journal.append(submission("b")).get();
+        journal.stop();
+
+        // 첫 레코드 본문의 한 바이트가 바뀐 상황
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        byte[] bytes = Files.readAllBytes(segment);
+        bytes[10] ^= 1;
+        Files.write(segment, bytes);
+
+        List<ClubApplySubmissionJournal.Entry> recovered = new CopyOnWriteArrayList<>();
+        ClubApplySubmissionJournal restarted = new ClubApplySubmissionJournal(directory, 1024 * 1024, objectMapper);
+        restarted.start(recovered::addAll);
+        restarted.stop();
+
+        assertEquals(0, recovered.size());
+        assertTrue(Files.exists(segment.resolveSibling(segment.getFileName() + ".corrupt")));
+    }
+
+    private static ClubApplySubmission submission(String receiptId) {
+        return new ClubApplySubmission(receiptId, "form",
+                List.of(new ClubApplySubmission.Answer(1L, "답변")), LocalDateTime.of(2025, 3, 1, 9, 0));
+    }
+
+    private static long segmentCount(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
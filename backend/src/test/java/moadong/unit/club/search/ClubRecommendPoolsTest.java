@@ -0,0 +1,92 @@
+package moadong.unit.club.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import moadong.club.payload.dto.ClubSearchResult;
+import moadong.club.search.ClubRecommendPools;
+import moadong.club.search.ClubSearchDocument;
+import moadong.util.annotations.UnitTest;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class ClubRecommendPoolsTest {
+
+    private static ClubSearchDocument document(String id, String category, String status) {
+        ClubSearchResult result = ClubSearchResult.builder()
+                .id(id)
+                .name(id)
+                .category(category)
+                .recruitmentStatus(status)
+                .build();
+        return new ClubSearchDocument(id, 1L, result, id, id);
+    }
+
+    @RepeatedTest(20)
+    void 같은_카테고리_모집중_동아리를_먼저_추천한다() {
+        List<ClubSearchDocument> documents = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            documents.add(document("open" + i, "봉사", "OPEN"));
+            documents.add(document("closed" + i, "봉사", "CLOSED"));
+            documents.add(document("other" + i, "공연", "ALWAYS"));
+        }
+        ClubRecommendPools pools = new ClubRecommendPools(1, documents);
+
+        List<ClubSearchResult> result = pools.recommend("봉사", "open0");
+
+        assertEquals(ClubRecommendPools.TOTAL_COUNT, result.size());
+        assertTrue(result.subList(0, ClubRecommendPools.CATEGORY_COUNT).stream()
+                .allMatch(club -> club.id().startsWith("open")));
+        assertTrue(result.stream().noneMatch(club -> club.id().equals("open0")));
+        assertEquals(result.size(), result.stream().map(ClubSearchResult::id).distinct().count());
+    }
+
+    @RepeatedTest(20)
+    void 모집중이_부족하면_같은_카테고리_마감_동아리로_채운다() {
+        List<ClubSearchDocument> documents = List.of(
+                document("open", "봉사", "OPEN"),
+                document("closed1", "봉사", "CLOSED"),
+                document("closed2", "봉사", "UPCOMING"),
+                document("closed3", "봉사", "CLOSED"),
+                document("closed4", "봉사", "CLOSED"),
+                document("other", "공연", "CLOSED")
+        );
+        ClubRecommendPools pools = new ClubRecommendPools(1, documents);
+
+        List<ClubSearchResult> result = pools.recommend("봉사", null);
+
+        assertEquals("open", result.get(0).id());
+        assertTrue(result.subList(1, ClubRecommendPools.CATEGORY_COUNT).stream()
+                .allMatch(club -> club.id().startsWith("closed")));
+        assertEquals(ClubRecommendPools.TOTAL_COUNT, result.size());
+    }
+
+    @RepeatedTest(20)
+    void 전체_풀에서는_모집중_동아리를_우선한다() {
+        List<ClubSearchDocument> documents = List.of(
+                document("a", "공연", "CLOSED"),
+                document("b", "공연", "ALWAYS"),
+                document("c", "학술", "CLOSED"),
+                document("d", "학술", "OPEN")
+        );
+        ClubRecommendPools pools = new ClubRecommendPools(1, documents);
+
+        List<ClubSearchResult> result = pools.recommend("봉사", null);
+
+        assertEquals(4, result.size());
+        assertTrue(result.subList(0, 2).stream()
+                .allMatch(club -> club.id().equals("b") || club.id().equals("d")));
+    }
+
+    @Test
+    void 추천할_동아리가_없으면_빈_목록을_반환한다() {
+        ClubRecommendPools pools = new ClubRecommendPools(1, List.of(document("only", "봉사", "OPEN")));
+
+        assertTrue(pools.recommend("봉사", "only").isEmpty());
+        assertFalse(pools.recommend("공연", null).isEmpty());
+    }
+}
@@ -0,0 +1,88 @@
+package moadong.unit.club.search;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import moadong.club.entity.Club;
+import moadong.club.entity.ClubRecruitmentInformation;
+import moadong.club.enums.ClubState;
+import moadong.club.repository.ClubSearchRepository;
+import moadong.club.search.ClubSearchEngine;
+import moadong.club.search.ClubSuggestEngine;
+import moadong.util.annotations.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+@UnitTest
+class ClubSearchEngineTest {
+
+    @Mock
+    private ClubSearchRepository clubSearchRepository;
+
+    private ClubSearchEngine clubSearchEngine;
+
+    @BeforeEach
+    void setUp() {
+        clubSearchEngine = new ClubSearchEngine(clubSearchRepository, new ClubSuggestEngine(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void 재색인이_읽는_동안_삭제된_동아리는_되살리지_않는다() {
+        Club first = club("a", ClubState.AVAILABLE);
+        Club deleted = club("b", ClubState.AVAILABLE);
+        when(clubSearchRepository.findSearchableClubs()).thenReturn(List.of(first, deleted));
+        clubSearchEngine.rebuild();
+
+        // Mongo 에서 읽은 뒤, 스냅샷과 합치기 전에 삭제 이벤트가 반영된 상황
+        when(clubSearchRepository.findSearchableClubs()).thenAnswer(invocation -> {
+            List<Club> loaded = List.of(first, deleted);
+            clubSearchEngine.remove("b");
+            return loaded;
+        });
+        clubSearchEngine.rebuild();
+
+        assertNotNull(clubSearchEngine.snapshot().index().document("a"));
+        assertNull(clubSearchEngine.snapshot().index().document("b"));
+    }
+
+    @Test
+    void 재색인이_읽는_동안_검색_대상에서_빠진_동아리는_되살리지_않는다() {
+        Club club = club("a", ClubState.AVAILABLE);
+        when(clubSearchRepository.findSearchableClubs()).thenReturn(List.of(club));
+        clubSearchEngine.rebuild();
+
+        when(clubSearchRepository.findSearchableClubs()).thenAnswer(invocation -> {
+            clubSearchEngine.update(club("a", ClubState.UNAVAILABLE));
+            return List.of(club);
+        });
+        clubSearchEngine.rebuild();
+
+        assertNull(clubSearchEngine.snapshot().index().document("a"));
+    }
+
+    @Test
+    void 재색인이_읽는_동안_검색_대상이_된_동아리를_빠뜨리지_않는다() {
+        Club existing = club("a", ClubState.AVAILABLE);
+        when(clubSearchRepository.findSearchableClubs()).thenReturn(List.of(existing));
+        clubSearchEngine.rebuild();
+
+        when(clubSearchRepository.findSearchableClubs()).thenAnswer(invocation -> {
+            clubSearchEngine.update(club("c", ClubState.AVAILABLE));
+            return List.of(existing);
+        });
+        clubSearchEngine.rebuild();
+
+        assertNotNull(clubSearchEngine.snapshot().index().document("a"));
+        assertNotNull(clubSearchEngine.snapshot().index().document("c"));
+    }
+
+    private static Club club(String id, ClubState state) {
+        return new Club(id, id, "봉사", "중동", state, "user-" + id, Map.of(),
+                ClubRecruitmentInformation.builder().build(), 1L);
+    }
+}
@@ -0,0 +1,116 @@
+package moadong.unit.club.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import moadong.club.payload.dto.ClubSearchResult;
+import moadong.club.search.ClubSearchDocument;
+import moadong.club.search.ClubSearchIndex;
+import moadong.club.search.HangulTokenizer;
+import moadong.util.annotations.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class ClubSearchIndexTest {
+
+    private static ClubSearchDocument document(String id, String name, String status, String category,
+                                               String searchText) {
+        ClubSearchResult result = ClubSearchResult.builder()
+                .id(id)
+                .name(name)
+                .recruitmentStatus(status)
+                .division("중동")
+                .category(category)
+                .build();
+        return new ClubSearchDocument(id, 1L, result,
+                HangulTokenizer.searchKey(searchText), HangulTokenizer.choseong(name));
+    }
+
+    private final ClubSearchIndex index = ClubSearchIndex.build(List.of(
+            document("1", "봉사동아리", "OPEN", "봉사", "봉사동아리\n함께 봉사해요\n"),
+            document("2", "Band", "CLOSED", "공연", "band\n밴드 공연\n"),
+            document("3", "코딩클럽", "UPCOMING", "학술", "코딩클럽\n알고리즘 스터디\n")
+    ));
+
+    @Test
+    void 키워드가_포함된_동아리만_반환한다() {
+        List<ClubSearchResult> result = index.search("봉사", "all", "all", "all");
+
+        assertEquals(1, result.size());
+        assertEquals("1", result.get(0).id());
+    }
+
+    @Test
+    void 키워드는_대소문자를_구분하지_않는다() {
+        List<ClubSearchResult> result = index.search("BAN", "all", "all", "all");
+
+        assertEquals(1, result.size());
+        assertEquals("2", result.get(0).id());
+    }
+
+    @Test
+    void 한_글자_키워드도_검색된다() {
+        List<ClubSearchResult> result = index.search("밴", "all", "all", "all");
+
+        assertEquals(1, result.size());
+        assertEquals("2", result.get(0).id());
+    }
+
+    @Test
+    void 입력_중인_음절로도_검색된다() {
+        List<ClubSearchResult> result = index.search("봉ㅅ", "all", "all", "all");
+
+        assertEquals(1, result.size());
+        assertEquals("1", result.get(0).id());
+    }
+
+    @Test
+    void 마지막_음절의_받침은_다음_음절의_초성으로도_찾는다() {
+        ClubSearchIndex index = ClubSearchIndex.build(List.of(
+                document("4", "가방공작소", "OPEN", "공예", "가방공작소\n"),
+                document("5", "달기지", "OPEN", "과학", "달기지\n")
+        ));
+
+        assertEquals("4", index.search("갑", "all", "all", "all").get(0).id());
+        assertEquals("5", index.search("닭", "all", "all", "all").get(0).id());
+        assertTrue(index.search("가방고ㅇ", "all", "all", "all").isEmpty());
+    }
+
+    @Test
+    void 초성으로_이름을_검색한다() {
+        List<ClubSearchResult> result = index.search("ㅋㄷ", "all", "all", "all");
+
+        assertEquals(1, result.size());
+        assertEquals("3", result.get(0).id());
+    }
+
+    @Test
+    void 모집중_필터는_상시모집과_모집예정을_포함한다() {
+        List<ClubSearchResult> result = index.search("", "OPEN", "all", "all");
+
+        assertEquals(2, result.size());
+        assertTrue(result.stream().noneMatch(club -> "CLOSED".equals(club.recruitmentStatus())));
+    }
+
+    @Test
+    void 같은_동아리_문서를_담으면_내용_태그가_같다() {
+        ClubSearchIndex reordered = ClubSearchIndex.build(List.of(
+                document("3", "코딩클럽", "UPCOMING", "학술", "코딩클럽\n알고리즘 스터디\n"),
+                document("2", "Band", "CLOSED", "공연", "band\n밴드 공연\n"),
+                document("1", "봉사동아리", "OPEN", "봉사", "봉사동아리\n함께 봉사해요\n")
+        ));
+
+        assertEquals(index.contentTag(), reordered.contentTag());
+        assertNotEquals(index.contentTag(), index.without("2").contentTag());
+    }
+
+    @Test
+    void 삭제된_동아리는_검색되지_않는다() {
+        ClubSearchIndex removed = index.without("1");
+
+        assertTrue(removed.search("봉사", "all", "all", "all").isEmpty());
+        assertEquals(3, index.size());
+    }
+}
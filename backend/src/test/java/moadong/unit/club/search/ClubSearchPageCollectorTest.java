@@ -0,0 +1,98 @@
+package moadong.unit.club.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import moadong.club.enums.ClubCategory;
+import moadong.club.enums.ClubRecruitmentStatus;
+import moadong.club.payload.dto.ClubSearchResult;
+import moadong.club.search.ClubSearchCursor;
+import moadong.club.search.ClubSearchOrder;
+import moadong.club.search.ClubSearchPage;
+import moadong.club.search.ClubSearchPageCollector;
+import moadong.util.annotations.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class ClubSearchPageCollectorTest {
+
+    private static List<ClubSearchResult> clubs(int count) {
+        Random random = new Random(42);
+        ClubRecruitmentStatus[] statuses = ClubRecruitmentStatus.values();
+        ClubCategory[] categories = ClubCategory.values();
+        List<ClubSearchResult> clubs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            clubs.add(ClubSearchResult.builder()
+                    .id("id" + i)
+                    .name("club" + random.nextInt(count / 2))
+                    .recruitmentStatus(statuses[random.nextInt(statuses.length)].name())
+                    .category(categories[random.nextInt(categories.length)].name())
+                    .build());
+        }
+        return clubs;
+    }
+
+    private static ClubSearchPage collect(List<ClubSearchResult> clubs, ClubSearchOrder order,
+                                          ClubSearchResult after, int size) {
+        ClubSearchPageCollector collector = new ClubSearchPageCollector(order.comparator(), after, size);
+        clubs.forEach(collector);
+        return collector.page();
+    }
+
+    @Test
+    void 페이지를_이어_붙이면_전체_정렬_결과와_같다() {
+        List<ClubSearchResult> clubs = clubs(57);
+        ClubSearchOrder order = ClubSearchOrder.of(7L);
+        List<ClubSearchResult> sorted = new ArrayList<>(clubs);
+        sorted.sort(order.comparator());
+
+        List<ClubSearchResult> paged = new ArrayList<>();
+        ClubSearchResult after = null;
+        ClubSearchPage page;
+        do {
+            page = collect(clubs, order, after, 10);
+            assertEquals(clubs.size(), page.totalCount());
+            paged.addAll(page.clubs());
+            after = page.clubs().isEmpty() ? null : page.clubs().get(page.clubs().size() - 1);
+        } while (page.hasNext());
+
+        assertIterableEquals(sorted, paged);
+    }
+
+    @Test
+    void 마지막_페이지는_다음_페이지가_없다() {
+        List<ClubSearchResult> clubs = clubs(10);
+
+        ClubSearchPage page = collect(clubs, ClubSearchOrder.of(1L), null, 10);
+
+        assertEquals(10, page.clubs().size());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    void 같은_seed_는_같은_순서를_만든다() {
+        List<ClubSearchResult> clubs = clubs(30);
+
+        assertIterableEquals(collect(clubs, ClubSearchOrder.of(3L), null, 30).clubs(),
+                collect(clubs, ClubSearchOrder.of(3L), null, 30).clubs());
+    }
+
+    @Test
+    void 커서는_seed_와_마지막_동아리를_복원한다() {
+        ClubSearchResult last = ClubSearchResult.builder()
+                .id("id1").name("동아리").recruitmentStatus("OPEN").category(null).build();
+
+        ClubSearchCursor decoded = ClubSearchCursor.decode(ClubSearchCursor.after(99L, last).encode());
+
+        assertEquals(99L, decoded.seed());
+        assertEquals("동아리", decoded.name());
+        assertNull(decoded.category());
+        assertTrue(ClubSearchOrder.of(99L).comparator().compare(last, decoded.lastClub()) == 0);
+    }
+}
@@ -0,0 +1,59 @@
+package moadong.unit.club.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import moadong.club.search.HangulTokenizer;
+import moadong.util.annotations.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class HangulTokenizerTest {
+
+    @Test
+    void 음절을_자모로_분해한다() {
+        assertEquals("ㅂㅗㅇㅅㅏclub", HangulTokenizer.decompose("봉사Club"));
+    }
+
+    @Test
+    void 겹모음과_겹받침은_입력_순서대로_분해한다() {
+        assertEquals("ㄱㅗㅏ ㄷㅏㄹㄱ", HangulTokenizer.decompose("과 닭"));
+        assertEquals("ㄷㅏㄹㄱ", HangulTokenizer.decompose("달ㄱ"));
+    }
+
+    @Test
+    void 입력_중인_음절은_완성된_단어의_부분문자열이다() {
+        assertTrue(matches("봉사", "봉ㅅ"));
+        assertTrue(matches("봉사", "보"));
+        assertTrue(matches("봉사", "ㅂ"));
+        assertTrue(matches("가방", "갑"));
+        assertTrue(matches("사이클", "상"));
+        assertTrue(matches("달기", "닭"));
+    }
+
+    @Test
+    void 완성된_음절은_음절을_넘어_일치하지_않는다() {
+        assertFalse(matches("가방", "갑ㅏ"));
+        assertFalse(matches("사이클", "상이"));
+        assertFalse(matches("산책", "사ㄴ"));
+    }
+
+    @Test
+    void 초성_키를_만든다() {
+        assertEquals("ㅂㅅㄷㅇㄹ abc", HangulTokenizer.choseong("봉사동아리 ABC"));
+    }
+
+    @Test
+    void 초성으로만_이루어진_입력을_판별한다() {
+        assertTrue(HangulTokenizer.isChoseongOnly("ㅂㅅ"));
+        assertTrue(HangulTokenizer.isChoseongOnly("ㅂ ㅅ"));
+        assertFalse(HangulTokenizer.isChoseongOnly("봉ㅅ"));
+        assertFalse(HangulTokenizer.isChoseongOnly(" "));
+    }
+
+    private static boolean matches(String text, String keyword) {
+        String key = HangulTokenizer.searchKey(text);
+        return HangulTokenizer.searchKeys(keyword).stream().anyMatch(key::contains);
+    }
+}
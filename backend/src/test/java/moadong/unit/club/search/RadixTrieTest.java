@@ -0,0 +1,63 @@
+package moadong.unit.club.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import moadong.club.search.RadixTrie;
+import moadong.util.annotations.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class RadixTrieTest {
+
+    private RadixTrie<String> trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new RadixTrie<>();
+        for (String key : List.of("band", "banana", "ban", "bandit", "apple")) {
+            trie.put(key, key);
+        }
+    }
+
+    @Test
+    void 접두사로_시작하는_키를_짧은_순서로_반환한다() {
+        assertEquals(List.of("ban", "band", "banana", "bandit"), trie.findByPrefix("ban", 10));
+    }
+
+    @Test
+    void 최대_개수만큼_반환할_때도_짧은_키를_먼저_고른다() {
+        assertEquals(List.of("ban", "band"), trie.findByPrefix("ban", 2));
+    }
+
+    @Test
+    void 간선_중간에서_끝나는_접두사도_찾는다() {
+        assertEquals(List.of("banana"), trie.findByPrefix("bana", 10));
+    }
+
+    @Test
+    void 최대_개수만큼만_반환한다() {
+        assertEquals(2, trie.findByPrefix("b", 2).size());
+    }
+
+    @Test
+    void 삭제한_키는_더이상_반환하지_않는다() {
+        trie.remove("ban", "ban");
+        trie.remove("band", "band");
+
+        assertEquals(List.of("banana", "bandit"), trie.findByPrefix("ban", 10));
+        assertEquals(3, trie.size());
+    }
+
+    @Test
+    void 모든_키를_삭제하면_비어있다() {
+        for (String key : List.of("band", "banana", "ban", "bandit", "apple")) {
+            trie.remove(key, key);
+        }
+
+        assertTrue(trie.findByPrefix("", 10).isEmpty());
+        assertEquals(0, trie.size());
+    }
+}
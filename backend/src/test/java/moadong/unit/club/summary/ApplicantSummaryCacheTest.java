@@ -0,0 +1,66 @@
+package moadong.unit.club.summary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.List;
+import moadong.club.entity.ClubApplicationFormQuestion;
+import moadong.club.entity.ClubQuestionAnswer;
+import moadong.club.summary.ApplicantSummaryCache;
+import moadong.util.annotations.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class ApplicantSummaryCacheTest {
+
+    private final List<ClubApplicationFormQuestion> questions = List.of(question(1L, "이름"), question(2L, "지원 동기"));
+
+    @Test
+    void 답변의_순서와_공백이_달라도_같은_키를_만든다() {
+        String key = ApplicantSummaryCache.keyOf(questions,
+                List.of(answer(1L), answer(2L)), List.of("홍길동", "개발이 좋아서"));
+        String reordered = ApplicantSummaryCache.keyOf(questions,
+                List.of(answer(2L), answer(1L)), List.of("  개발이   좋아서\n", "홍길동"));
+
+        assertEquals(key, reordered);
+    }
+
+    @Test
+    void 답변이나_질문이_다르면_다른_키를_만든다() {
+        String key = ApplicantSummaryCache.keyOf(questions,
+                List.of(answer(1L), answer(2L)), List.of("홍길동", "개발이 좋아서"));
+
+        assertNotEquals(key, ApplicantSummaryCache.keyOf(questions,
+                List.of(answer(1L), answer(2L)), List.of("홍길동", "디자인이 좋아서")));
+        assertNotEquals(key, ApplicantSummaryCache.keyOf(List.of(question(1L, "이름"), question(2L, "각오")),
+                List.of(answer(1L), answer(2L)), List.of("홍길동", "개발이 좋아서")));
+    }
+
+    @Test
+    void ttl_이_지난_요약은_돌려주지_않는다() throws InterruptedException {
+        ApplicantSummaryCache cache = new ApplicantSummaryCache(10, Duration.ofMillis(1));
+        cache.put("key", "요약");
+
+        Thread.sleep(5);
+
+        assertNull(cache.get("key"));
+    }
+
+    @Test
+    void 저장한_요약을_돌려준다() {
+        ApplicantSummaryCache cache = new ApplicantSummaryCache(10, Duration.ofHours(1));
+        cache.put("key", "요약");
+
+        assertEquals("요약", cache.get("key"));
+    }
+
+    private static ClubApplicationFormQuestion question(long id, String title) {
+        return ClubApplicationFormQuestion.builder().id(id).title(title).build();
+    }
+
+    private static ClubQuestionAnswer answer(long id) {
+        return ClubQuestionAnswer.builder().id(id).build();
+    }
+}
@@ -0,0 +1,153 @@
+package moadong.unit.gemma;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import moadong.gemma.client.GemmaClient;
+import moadong.gemma.client.GemmaClientException;
+import moadong.global.util.CircuitBreaker;
+import moadong.util.annotations.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 로컬에 띄운 가짜 모델 서버로 타임아웃, 재시도, 서킷 브레이커 동작을 확인합니다.
+ */
+@UnitTest
+class GemmaClientTest {
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile Responder responder;
+
+    @FunctionalInterface
+    private interface Responder {
+        void respond(HttpExchange exchange) throws IOException, InterruptedException;
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/generate", exchange -> {
+            requests.incrementAndGet();
+            try {
+                responder.respond(exchange);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void 모델_응답_본문을_돌려준다() {
+        responder = exchange -> reply(exchange, 200, "{\"response\": \"{\\\"response\\\": \\\"요약\\\"}\"}");
+
+        assertEquals("{\"response\": \"요약\"}", client(3, 5).generate("prompt"));
+    }
+
+    @Test
+    void 서버_오류는_재시도한다() {
+        responder = exchange -> {
+            if (requests.get() == 1) {
+                reply(exchange, 503, "{}");
+            } else {
+                reply(exchange, 200, "{\"response\": \"ok\"}");
+            }
+        };
+
+        assertEquals("ok", client(3, 5).generate("prompt"));
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void 게이트웨이_오류가_아닌_서버_오류는_재시도하지_않는다() {
+        responder = exchange -> reply(exchange, 500, "{}");
+
+        assertThrows(GemmaClientException.class, () -> client(3, 5).generate("prompt"));
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void 응답_타임아웃은_재시도하지_않는다() {
+        responder = exchange -> {
+            Thread.sleep(1000);
+            reply(exchange, 200, "{\"response\": \"late\"}");
+        };
+
+        assertThrows(GemmaClientException.class, () -> client(3, 5).generate("prompt"));
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void 연결에_실패하면_재시도한다() throws IOException {
+        // 아무도 듣지 않는 포트
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        GemmaClient client = new GemmaClient("localhost", port,
+                Duration.ofSeconds(1), Duration.ofMillis(200), 1,
+                2, Duration.ofSeconds(1),
+                3, Duration.ofMinutes(1),
+                3, Duration.ofMillis(10), Duration.ofMillis(20));
+
+        // 세 번 시도해 모두 실패해야 서킷이 열림
+        assertThrows(GemmaClientException.class, () -> client.generate("prompt"));
+        assertEquals(CircuitBreaker.State.OPEN, client.circuitState());
+    }
+
+    @Test
+    void 응답이_늦으면_타임아웃으로_실패한다() {
+        responder = exchange -> {
+            Thread.sleep(1000);
+            reply(exchange, 200, "{\"response\": \"late\"}");
+        };
+
+        assertThrows(GemmaClientException.class, () -> client(1, 5).generate("prompt"));
+    }
+
+    @Test
+    void 연속으로_실패하면_서킷을_열고_서버를_부르지_않는다() {
+        responder = exchange -> reply(exchange, 500, "{}");
+        GemmaClient client = client(1, 2);
+
+        assertThrows(GemmaClientException.class, () -> client.generate("prompt"));
+        assertThrows(GemmaClientException.class, () -> client.generate("prompt"));
+        assertEquals(CircuitBreaker.State.OPEN, client.circuitState());
+
+        assertThrows(GemmaClientException.class, () -> client.generate("prompt"));
+        assertEquals(2, requests.get());
+    }
+
+    private GemmaClient client(int maxAttempts, int failureThreshold) {
+        return new GemmaClient("localhost", server.getAddress().getPort(),
+                Duration.ofSeconds(1), Duration.ofMillis(200), 1,
+                2, Duration.ofSeconds(1),
+                failureThreshold, Duration.ofMinutes(1),
+                maxAttempts, Duration.ofMillis(10), Duration.ofMillis(20));
+    }
+
+    private static void reply(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+}
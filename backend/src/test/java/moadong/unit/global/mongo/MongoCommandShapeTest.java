@@ -0,0 +1,45 @@
+package moadong.unit.global.mongo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import moadong.global.mongo.MongoCommandShape;
+import moadong.util.annotations.UnitTest;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class MongoCommandShapeTest {
+
+    @Test
+    void 파이프라인_구조는_남기고_값은_가린다() {
+        BsonDocument command = BsonDocument.parse("""
+                {"aggregate": "clubs",
+                 "pipeline": [
+                   {"$match": {"state": "AVAILABLE", "category": {"$in": ["봉사", "공연"]}}},
+                   {"$sample": {"size": 4}}
+                 ],
+                 "cursor": {},
+                 "$db": "moadong",
+                 "lsid": {"id": "abc"}}
+                """);
+
+        String shape = MongoCommandShape.of(command);
+
+        assertEquals("{aggregate: ?, pipeline: [{$match: {state: ?, category: {$in: [? x2]}}}, "
+                + "{$sample: {size: ?}}], cursor: {}}", shape);
+    }
+
+    @Test
+    void insert_문서_내용은_남기지_않는다() {
+        BsonDocument command = BsonDocument.parse("""
+                {"insert": "club_applicants",
+                 "documents": [{"formId": "f1", "answers": [{"value": "010-1234-5678"}]}]}
+                """);
+
+        String shape = MongoCommandShape.of(command);
+
+        assertEquals("{insert: ?, documents: [1 documents]}", shape);
+        assertFalse(shape.contains("010"));
+    }
+}
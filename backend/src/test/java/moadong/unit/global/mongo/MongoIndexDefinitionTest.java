@@ -0,0 +1,63 @@
+package moadong.unit.global.mongo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import moadong.global.mongo.MongoIndexDefinition;
+import moadong.global.mongo.MongoIndexes;
+import moadong.util.annotations.UnitTest;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+
+@UnitTest
+class MongoIndexDefinitionTest {
+
+    private final MongoIndexDefinition definition = MongoIndexDefinition.on("club_applicants", "applicants_formId_status")
+            .asc("formId")
+            .asc("status")
+            .build();
+
+    private static IndexInfo info(String name, IndexField... fields) {
+        return new IndexInfo(List.of(fields), name, false, false, null);
+    }
+
+    @Test
+    void 이름이_달라도_키_구성이_같으면_같은_인덱스로_본다() {
+        IndexInfo existing = info("formId_1_status_1",
+                IndexField.create("formId", Sort.Direction.ASC),
+                IndexField.create("status", Sort.Direction.ASC));
+
+        assertTrue(definition.sameKeys(existing));
+    }
+
+    @Test
+    void 키_순서나_방향이_다르면_다른_인덱스로_본다() {
+        assertFalse(definition.sameKeys(info("a",
+                IndexField.create("status", Sort.Direction.ASC),
+                IndexField.create("formId", Sort.Direction.ASC))));
+        assertFalse(definition.sameKeys(info("b",
+                IndexField.create("formId", Sort.Direction.ASC),
+                IndexField.create("status", Sort.Direction.DESC))));
+        assertFalse(definition.sameKeys(info("c", IndexField.create("formId", Sort.Direction.ASC))));
+    }
+
+    @Test
+    void 선언한_키_순서대로_인덱스를_만든다() {
+        Document keys = definition.toIndex().getIndexKeys();
+
+        assertEquals(List.of("formId", "status"), List.copyOf(keys.keySet()));
+        assertEquals("applicants_formId_status", definition.toIndex().getIndexOptions().getString("name"));
+    }
+
+    @Test
+    void 선언된_인덱스_이름은_중복되지_않는다() {
+        long distinct = MongoIndexes.REQUIRED.stream().map(MongoIndexDefinition::qualifiedName).distinct().count();
+
+        assertEquals(MongoIndexes.REQUIRED.size(), distinct);
+    }
+}
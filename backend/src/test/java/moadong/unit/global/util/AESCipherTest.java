@@ -0,0 +1,96 @@
+package moadong.unit.global.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import moadong.global.util.AESCipher;
+import moadong.util.annotations.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class AESCipherTest {
+
+    private static final String KEY = "0123456789abcdef0123456789abcdef";
+    private static final String IV = "0123456789ab";
+
+    private final AESCipher cipher = new AESCipher(KEY, IV);
+
+    @Test
+    void 암호화한_문자열을_복호화하면_원문이_나온다() throws Exception {
+        String encrypted = cipher.encrypt("안녕하세요 지원합니다");
+
+        assertTrue(encrypted.startsWith("v1:0:"));
+        assertEquals("안녕하세요 지원합니다", cipher.decrypt(encrypted));
+        // 같은 스레드에서 재사용한 Cipher 로도 다시 복호화 가능
+        assertEquals("안녕하세요 지원합니다", cipher.decrypt(encrypted));
+    }
+
+    @Test
+    void 같은_문자열도_암호화할_때마다_다른_암호문이_나온다() throws Exception {
+        assertNotEquals(cipher.encrypt("같은 답변"), cipher.encrypt("같은 답변"));
+    }
+
+    @Test
+    void 고정_IV로_암호화된_기존_값도_복호화한다() throws Exception {
+        String legacy = legacyEncrypt("기존 답변");
+
+        assertEquals("기존 답변", cipher.decrypt(legacy));
+        assertTrue(cipher.needsReencryption(legacy));
+    }
+
+    @Test
+    void 키를_교체해도_이전_키로_암호화된_값을_읽는다() throws Exception {
+        String oldValue = cipher.encrypt("교체 전 답변");
+        AESCipher rotated = new AESCipher(KEY, IV, "k2:fedcba9876543210fedcba9876543210", "k2");
+
+        String newValue = rotated.encrypt("교체 후 답변");
+
+        assertTrue(newValue.startsWith("v1:k2:"));
+        assertEquals("교체 전 답변", rotated.decrypt(oldValue));
+        assertEquals("교체 후 답변", rotated.decrypt(newValue));
+        assertTrue(rotated.needsReencryption(oldValue));
+        assertFalse(rotated.needsReencryption(newValue));
+    }
+
+    @Test
+    void 일괄_복호화는_입력_순서를_유지한다() throws Exception {
+        List<String> plainTexts = new ArrayList<>();
+        List<String> cipherTexts = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            plainTexts.add("답변 " + i);
+            cipherTexts.add(i % 2 == 0 ? cipher.encrypt("답변 " + i) : legacyEncrypt("답변 " + i));
+        }
+
+        assertEquals(plainTexts, cipher.decryptAll(cipherTexts));
+    }
+
+    @Test
+    void 일괄_복호화_중_하나라도_실패하면_예외를_던진다() throws Exception {
+        List<String> cipherTexts = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            cipherTexts.add(cipher.encrypt("답변 " + i));
+        }
+        AESCipher otherKey = new AESCipher("fedcba9876543210fedcba9876543210", IV);
+        cipherTexts.set(50, otherKey.encrypt("다른 키"));
+
+        assertThrows(AEADBadTagException.class, () -> cipher.decryptAll(cipherTexts));
+    }
+
+    private static String legacyEncrypt(String text) throws Exception {
+        Cipher legacy = Cipher.getInstance("AES/GCM/NoPadding");
+        legacy.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(KEY.getBytes(StandardCharsets.UTF_8), "AES"),
+                new GCMParameterSpec(128, IV.getBytes(StandardCharsets.UTF_8)));
+        return Base64.getEncoder().encodeToString(legacy.doFinal(text.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,73 @@
+package moadong.unit.global.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import moadong.global.util.AdaptiveConcurrencyLimiter;
+import moadong.util.annotations.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AdaptiveConcurrencyLimiter limiter =
+            new AdaptiveConcurrencyLimiter(1, 4, 2, Duration.ofSeconds(1), 0.5);
+
+    @Test
+    void 한도를_모두_쓰며_빠르게_성공하면_한도를_늘린다() throws InterruptedException {
+        // 한도를 모두 쓴 상태에서 성공할 때마다 1/한도 씩 늘어, 네 번이면 3 이 됨
+        for (int i = 0; i < 2; i++) {
+            limiter.acquire();
+            limiter.acquire();
+            limiter.release(100, TimeUnit.MILLISECONDS, true);
+            limiter.release(100, TimeUnit.MILLISECONDS, true);
+        }
+
+        assertEquals(3, limiter.currentLimit());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void 한도에_여유가_있으면_늘리지_않는다() throws InterruptedException {
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire();
+            limiter.release(100, TimeUnit.MILLISECONDS, true);
+        }
+
+        assertEquals(2, limiter.currentLimit());
+    }
+
+    @Test
+    void 실패하거나_느리면_한도를_줄이되_최소값_아래로는_줄이지_않는다() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 8, 8, Duration.ofSeconds(1), 0.5);
+
+        limiter.acquire();
+        limiter.release(100, TimeUnit.MILLISECONDS, false);
+        assertEquals(4, limiter.currentLimit());
+
+        limiter.acquire();
+        limiter.release(2, TimeUnit.SECONDS, true);
+        assertEquals(2, limiter.currentLimit());
+
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire();
+            limiter.release(100, TimeUnit.MILLISECONDS, false);
+        }
+        assertEquals(1, limiter.currentLimit());
+    }
+
+    @Test
+    void 최대값을_넘어_늘리지_않는다() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 2, 2, Duration.ofSeconds(1), 0.5);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire();
+            limiter.acquire();
+            limiter.release(100, TimeUnit.MILLISECONDS, true);
+            limiter.release(100, TimeUnit.MILLISECONDS, true);
+        }
+
+        assertEquals(2, limiter.currentLimit());
+    }
+}
@@ -0,0 +1,68 @@
+package moadong.unit.global.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import moadong.global.util.LruCache;
+import moadong.util.annotations.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class LruCacheTest {
+
+    @Test
+    void 최대_개수를_넘으면_가장_오래_사용하지_않은_항목을_버린다() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+
+        cache.put("c", 3);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(3, cache.get("c"));
+    }
+
+    @Test
+    void 캐시에_없을_때만_값을_계산한다() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        int[] loads = {0};
+
+        cache.computeIfAbsent("a", key -> ++loads[0]);
+        Integer value = cache.computeIfAbsent("a", key -> ++loads[0]);
+
+        assertEquals(1, value);
+        assertEquals(1, loads[0]);
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    void 무게를_주면_무게_합이_한도를_넘지_않도록_버린다() {
+        LruCache<String, String> cache = new LruCache<>(10, value -> value.length());
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        cache.get("a");
+
+        cache.put("c", "cccccc");
+
+        assertNull(cache.get("b"));
+        assertEquals("aaaa", cache.get("a"));
+        assertEquals("cccccc", cache.get("c"));
+        assertEquals(10, cache.weight());
+    }
+
+    @Test
+    void 한도보다_무거운_항목은_담지_않는다() {
+        LruCache<String, String> cache = new LruCache<>(3, value -> value.length());
+        cache.put("a", "a");
+
+        cache.put("big", "bigger");
+
+        assertNull(cache.get("big"));
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.weight());
+    }
+}